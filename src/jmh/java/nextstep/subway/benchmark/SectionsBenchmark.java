@@ -0,0 +1,115 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sections 의 구간 추가/제거/정렬 벤치마크
+ * 편집 벤치마크는 편집과 그 되돌리기를 한 호출로 재서 노선 길이를 sectionCount 로 유지한다. 결과는 편집 두 번의 시간이다.
+ * 수십 ns 짜리 편집에 호출마다 Level.Invocation 준비를 붙이면 하네스 비용이 결과를 덮으므로 쓰지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionsBenchmark {
+
+    @State(Scope.Thread)
+    public static class ReadState {
+        @Param({"10", "100", "1000", "10000"})
+        int sectionCount;
+        Line line;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            line = SyntheticLine.of(sectionCount).getLine();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EditState {
+        @Param({"10", "100", "1000", "10000"})
+        int sectionCount;
+        SyntheticLine syntheticLine;
+        Station newStation;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            syntheticLine = SyntheticLine.of(sectionCount);
+            newStation = syntheticLine.newStation();
+        }
+    }
+
+    @Benchmark
+    public Line addAtDownEndAndUndo(final EditState state) {
+        Line line = state.syntheticLine.getLine();
+        line.addSection(state.syntheticLine.downEndStation(), state.newStation, SyntheticLine.SECTION_DISTANCE);
+        line.removeSection(state.newStation);
+        line.pullSectionChangedEvents();
+        return line;
+    }
+
+    @Benchmark
+    public Line splitMiddleSectionAndUndo(final EditState state) {
+        Line line = state.syntheticLine.getLine();
+        line.addSection(state.syntheticLine.middleStation(), state.newStation, SyntheticLine.SECTION_DISTANCE / 2);
+        line.removeSection(state.newStation);
+        line.pullSectionChangedEvents();
+        return line;
+    }
+
+    /**
+     * 하행 종점을 제거했든 중간역을 제거했든, 사라진 역을 같은 거리로 다시 넣으면 원래 노선이 된다.
+     */
+    @Benchmark
+    public Line removeDownEndStationAndUndo(final EditState state) {
+        SyntheticLine syntheticLine = state.syntheticLine;
+        Line line = syntheticLine.getLine();
+        line.removeSection(syntheticLine.downEndStation());
+        line.addSection(syntheticLine.station(state.sectionCount - 1), syntheticLine.downEndStation(), SyntheticLine.SECTION_DISTANCE);
+        line.pullSectionChangedEvents();
+        return line;
+    }
+
+    @Benchmark
+    public Line removeMiddleStationAndUndo(final EditState state) {
+        SyntheticLine syntheticLine = state.syntheticLine;
+        Line line = syntheticLine.getLine();
+        line.removeSection(syntheticLine.middleStation());
+        line.addSection(syntheticLine.station(syntheticLine.middleIndex() - 1), syntheticLine.middleStation(), SyntheticLine.SECTION_DISTANCE);
+        line.pullSectionChangedEvents();
+        return line;
+    }
+
+    @Benchmark
+    public List<Section> getSectionsSorted(final ReadState state) {
+        return state.line.getSections().getSectionsSorted();
+    }
+
+    @Benchmark
+    public List<Station> getStationsSorted(final ReadState state) {
+        return state.line.getSections().getStationsSorted();
+    }
+
+    @Benchmark
+    public Station getUpEndStation(final ReadState state) {
+        return state.line.getSections().getUpEndStation();
+    }
+}
@@ -0,0 +1,60 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+
+/**
+ * 역 1 → 2 → ... → n+1 로 이어진 구간 n 개짜리 노선, 구간 거리는 모두 SECTION_DISTANCE 이다.
+ */
+public class SyntheticLine {
+    public static final int SECTION_DISTANCE = 10;
+
+    private final Line line;
+    private final Station[] stations;
+
+    private SyntheticLine(final Line line, final Station[] stations) {
+        this.line = line;
+        this.stations = stations;
+    }
+
+    public static SyntheticLine of(final int sectionCount) {
+        Line line = new Line(1L, "노선", "green");
+        Station[] stations = new Station[sectionCount + 1];
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = new Station((long) i + 1, "역" + (i + 1));
+        }
+        for (int i = 0; i < sectionCount; i++) {
+            line.addSection(stations[i], stations[i + 1], SECTION_DISTANCE);
+        }
+        line.pullSectionChangedEvents();
+        return new SyntheticLine(line, stations);
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public Station station(final int index) {
+        return stations[index];
+    }
+
+    public Station upEndStation() {
+        return stations[0];
+    }
+
+    public Station downEndStation() {
+        return stations[stations.length - 1];
+    }
+
+    public Station middleStation() {
+        return stations[middleIndex()];
+    }
+
+    public int middleIndex() {
+        return stations.length / 2;
+    }
+
+    public Station newStation() {
+        return new Station((long) stations.length + 1, "새역");
+    }
+}
@@ -0,0 +1,67 @@
+package nextstep.subway.benchmark.path;
+
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.PathFinderType;
+import nextstep.subway.domain.path.StationGraph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.WeightedMultigraph;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 벤치마크 대상 경로 탐색 엔진, JGRAPHT 는 JgraphtTest 와 같은 방식(WeightedMultigraph + DijkstraShortestPath)의 기준선이다.
+ */
+public enum PathEngine {
+    JGRAPHT(null) {
+        @Override
+        public Query build(final List<Section> sections) {
+            WeightedMultigraph<Long, DefaultWeightedEdge> graph = new WeightedMultigraph<>(DefaultWeightedEdge.class);
+            for (Section section : sections) {
+                Long up = section.getUpStation().getId();
+                Long down = section.getDownStation().getId();
+                graph.addVertex(up);
+                graph.addVertex(down);
+                graph.setEdgeWeight(graph.addEdge(up, down), section.getDistance());
+            }
+            DijkstraShortestPath<Long, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(graph);
+            return (source, target) -> {
+                GraphPath<Long, DefaultWeightedEdge> path = dijkstra.getPath(source, target);
+                return path == null ? -1 : (int) path.getWeight();
+            };
+        }
+    },
+    DIJKSTRA(PathFinderType.DIJKSTRA),
+    ALL_PAIRS(PathFinderType.ALL_PAIRS),
+    CONTRACTION_HIERARCHY(PathFinderType.CONTRACTION_HIERARCHY),
+    ALT(PathFinderType.ALT);
+
+    private final PathFinderType type;
+
+    PathEngine(final PathFinderType type) {
+        this.type = type;
+    }
+
+    /**
+     * 구간 목록에서 시작해 조회할 수 있는 상태까지, 그래프 생성과 엔진 전처리를 모두 포함한다.
+     */
+    public Query build(final List<Section> sections) {
+        PathFinder pathFinder = type.create(StationGraph.of(sections));
+        return (source, target) -> {
+            Optional<Path> path = pathFinder.find(source, target);
+            return path.map(Path::getDistance).orElse(-1);
+        };
+    }
+
+    @FunctionalInterface
+    public interface Query {
+        /**
+         * @return 최단 거리, 도달할 수 없으면 -1
+         */
+        int distance(Long source, Long target);
+    }
+}
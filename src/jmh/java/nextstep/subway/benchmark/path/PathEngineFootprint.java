@@ -0,0 +1,76 @@
+package nextstep.subway.benchmark.path;
+
+import nextstep.subway.domain.Section;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 엔진별로 준비가 끝난 조회 상태와 조회 스레드 하나당 탐색 작업 공간이 붙잡고 있는 힙 크기를 잰다.
+ * JMH 는 유지 메모리를 보고하지 않으므로 GC 직후 사용 중인 힙의 차이로 근사한다.
+ */
+public class PathEngineFootprint {
+    private static final List<Integer> DEFAULT_SIZES = Arrays.asList(500, 5_000, 50_000, 100_000);
+    private static final int ALL_PAIRS_LIMIT = 5_000;
+    private static final int GC_ROUNDS = 5;
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(final String[] args) {
+        List<Integer> sizes = args.length == 0 ? DEFAULT_SIZES : parse(args);
+        System.out.printf("%-10s %-24s %14s %16s%n", "stations", "engine", "prepared(KB)", "workspace(KB)");
+        for (int stationCount : sizes) {
+            List<Section> sections = SyntheticCityNetwork.generate(stationCount).getSections();
+            for (PathEngine engine : PathEngine.values()) {
+                if (engine == PathEngine.ALL_PAIRS && stationCount > ALL_PAIRS_LIMIT) {
+                    continue;
+                }
+                long[] footprint = footprint(engine, sections);
+                System.out.printf("%-10d %-24s %14d %16d%n", stationCount, engine, footprint[0] / 1024, footprint[1] / 1024);
+            }
+        }
+    }
+
+    /**
+     * 탐색 작업 공간은 첫 조회에서 만들어지므로, 준비 직후와 첫 조회 뒤를 나누어 잰다.
+     * 작업 공간은 조회 스레드(동시 조회) 하나당 크기이며, 탐색기는 이를 코어 수만큼까지 붙잡아 둔다.
+     *
+     * @return [준비된 조회 상태, 조회 스레드 하나당 작업 공간] 바이트
+     */
+    private static long[] footprint(final PathEngine engine, final List<Section> sections) {
+        // 클래스 로딩과 지연 초기화가 측정에 섞이지 않도록 한 번 먼저 만들어 조회까지 해 본 뒤 버린다
+        query(engine.build(sections), sections);
+        long before = usedHeap();
+        PathEngine.Query query = engine.build(sections);
+        long prepared = usedHeap();
+        query(query, sections);
+        long queried = usedHeap();
+        // 측정이 끝날 때까지 조회 상태가 수거되지 않도록 붙잡아 둔다
+        query(query, sections);
+        return new long[]{Math.max(0, prepared - before), Math.max(0, queried - prepared)};
+    }
+
+    private static int query(final PathEngine.Query query, final List<Section> sections) {
+        Section first = sections.get(0);
+        Section last = sections.get(sections.size() - 1);
+        return query.distance(first.getUpStation().getId(), last.getDownStation().getId());
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+
+    private static List<Integer> parse(final String[] args) {
+        List<Integer> sizes = new ArrayList<>();
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg.trim()));
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,128 @@
+package nextstep.subway.benchmark.path;
+
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 노선도에서 경로 탐색 엔진별 준비 시간과 조회 지연을 잰다.
+ * ALL_PAIRS 는 역 수의 제곱만큼 메모리를 쓰므로 작은 노선도에서만 잰다. 메모리 사용량은 PathEngineFootprint 로 잰다.
+ */
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PathFindingBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @State(Scope.Benchmark)
+    public static class CityState {
+        @Param({"500", "5000", "50000", "100000"})
+        int stationCount;
+
+        @Param({"JGRAPHT", "DIJKSTRA", "CONTRACTION_HIERARCHY", "ALT"})
+        PathEngine engine;
+
+        Workload workload;
+        PathEngine.Query query;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            workload = new Workload(stationCount);
+            query = engine.build(workload.sections);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class AllPairsState {
+        @Param({"500", "5000"})
+        int stationCount;
+
+        Workload workload;
+        PathEngine.Query query;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            workload = new Workload(stationCount);
+            query = PathEngine.ALL_PAIRS.build(workload.sections);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class QueryCursor {
+        int next;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public PathEngine.Query build(final CityState state) {
+        return state.engine.build(state.workload.sections);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public PathEngine.Query buildAllPairs(final AllPairsState state) {
+        return PathEngine.ALL_PAIRS.build(state.workload.sections);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public int query(final CityState state, final QueryCursor cursor) {
+        return state.workload.query(state.query, cursor.next++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public int queryAllPairs(final AllPairsState state, final QueryCursor cursor) {
+        return state.workload.query(state.query, cursor.next++);
+    }
+
+    /**
+     * 노선도와 역 수로 시드를 고정한 출발/도착 역 쌍. 엔진이 달라도 같은 쌍을 같은 순서로 조회한다.
+     */
+    static final class Workload {
+        private final List<Section> sections;
+        private final Long[] sources = new Long[QUERY_COUNT];
+        private final Long[] targets = new Long[QUERY_COUNT];
+
+        Workload(final int stationCount) {
+            SyntheticCityNetwork network = SyntheticCityNetwork.generate(stationCount);
+            List<Station> stations = network.getStations();
+            Random random = new Random(stationCount);
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                sources[i] = stations.get(random.nextInt(stations.size())).getId();
+                targets[i] = stations.get(random.nextInt(stations.size())).getId();
+            }
+            this.sections = network.getSections();
+        }
+
+        int query(final PathEngine.Query query, final int sequence) {
+            int i = sequence & (QUERY_COUNT - 1);
+            return query.distance(sources[i], targets[i]);
+        }
+    }
+}
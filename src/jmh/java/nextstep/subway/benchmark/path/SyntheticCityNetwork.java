@@ -0,0 +1,144 @@
+package nextstep.subway.benchmark.path;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 대도시 지하철 모양의 결정적(같은 입력이면 같은 결과) 노선도 생성기
+ * - 방사선: 도심 환승 허브 하나를 지나 양쪽 외곽으로 뻗는 노선, 허브는 방사선 여러 개가 나눠 쓴다
+ * - 순환선: 모든 방사선을 같은 거리에서 가로지르는 고리, 교차역은 환승역이며 사이사이 순환선 전용역이 있다
+ * Sections 는 순환을 만들 수 없으므로 순환선 하나는 반 바퀴씩 두 노선으로 나눈다.
+ * 역 수는 요청한 값에 가깝게 맞추며 실제 값은 getStations().size() 이다.
+ */
+public final class SyntheticCityNetwork {
+    private static final double RADIAL_STATION_RATIO = 0.7;
+    private static final int MAX_SECTION_DISTANCE = 5;
+
+    private final List<Station> stations = new ArrayList<>();
+    private final List<Line> lines = new ArrayList<>();
+    private final Random random;
+
+    private SyntheticCityNetwork(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    public static SyntheticCityNetwork generate(final int targetStationCount) {
+        return generate(targetStationCount, 20220401L);
+    }
+
+    public static SyntheticCityNetwork generate(final int targetStationCount, final long seed) {
+        SyntheticCityNetwork network = new SyntheticCityNetwork(seed);
+        network.build(Math.max(targetStationCount, 50));
+        return network;
+    }
+
+    private void build(final int targetStationCount) {
+        int radialCount = Math.max(4, (int) Math.sqrt(targetStationCount) / 4);
+        int hubCount = Math.max(1, radialCount / 4);
+        int ringCount = Math.max(1, radialCount / 6);
+        int armCount = radialCount * 2;
+        int armLength = Math.max(ringCount + 1, (int) (targetStationCount * RADIAL_STATION_RATIO / armCount));
+
+        List<Station> hubs = newStations(hubCount);
+        Station[][] arms = new Station[armCount][];
+        for (int arm = 0; arm < armCount; arm++) {
+            arms[arm] = newStations(armLength).toArray(new Station[0]);
+        }
+        for (int radial = 0; radial < radialCount; radial++) {
+            addRadialLine(radial, hubs.get(radial % hubCount), arms[radial], arms[radial + radialCount]);
+        }
+
+        int[] ringPositions = new int[ringCount];
+        long positionSum = 0;
+        for (int ring = 0; ring < ringCount; ring++) {
+            ringPositions[ring] = (ring + 1) * armLength / (ringCount + 1);
+            positionSum += ringPositions[ring] + 1;
+        }
+        int ringStationBudget = Math.max(0, targetStationCount - stations.size());
+        for (int ring = 0; ring < ringCount; ring++) {
+            int stationsPerGap = (int) (ringStationBudget * (ringPositions[ring] + 1L) / (positionSum * armCount));
+            addRingLines(ring, arms, ringPositions[ring], stationsPerGap);
+        }
+        lines.forEach(Line::pullSectionChangedEvents);
+    }
+
+    /**
+     * 한쪽 끝 → 허브 → 반대쪽 끝, arm 은 허브에서 가까운 역부터 담겨 있다.
+     */
+    private void addRadialLine(final int radial, final Station hub, final Station[] arm, final Station[] oppositeArm) {
+        Line line = newLine("방사" + (radial + 1) + "호선");
+        Station previous = arm[arm.length - 1];
+        for (int i = arm.length - 2; i >= 0; i--) {
+            previous = connect(line, previous, arm[i]);
+        }
+        previous = connect(line, previous, hub);
+        for (Station station : oppositeArm) {
+            previous = connect(line, previous, station);
+        }
+    }
+
+    /**
+     * arm i 와 i + half 는 같은 방사선의 반대쪽이므로 arm 번호 순서가 곧 각도 순서다.
+     * 그 순서로 돌며 같은 위치의 역을 잇고, 앞 반 바퀴와 뒤 반 바퀴를 다른 노선으로 만든다.
+     */
+    private void addRingLines(final int ring, final Station[][] arms, final int position, final int stationsPerGap) {
+        int armCount = arms.length;
+        int half = armCount / 2;
+        Line line = null;
+        Station previous = null;
+        for (int step = 0; step < armCount; step++) {
+            if (step == 0 || step == half) {
+                line = newLine("순환" + (ring + 1) + "호선" + (step == 0 ? " 내선" : " 외선"));
+                previous = arms[step][position];
+            }
+            int nextArm = (step + 1) % armCount;
+            for (Station station : newStations(stationsPerGap)) {
+                previous = connect(line, previous, station);
+            }
+            previous = connect(line, previous, arms[nextArm][position]);
+        }
+    }
+
+    private Station connect(final Line line, final Station up, final Station down) {
+        line.addSection(up, down, 1 + random.nextInt(MAX_SECTION_DISTANCE));
+        return down;
+    }
+
+    private List<Station> newStations(final int count) {
+        List<Station> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = stations.size() + 1L;
+            Station station = new Station(id, "역" + id);
+            stations.add(station);
+            created.add(station);
+        }
+        return created;
+    }
+
+    private Line newLine(final String name) {
+        Line line = new Line(lines.size() + 1L, name, "gray");
+        lines.add(line);
+        return line;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public List<Section> getSections() {
+        List<Section> sections = new ArrayList<>();
+        for (Line line : lines) {
+            sections.addAll(line.getSections().getSectionsSorted());
+        }
+        return sections;
+    }
+}
@@ -0,0 +1,81 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.path.DistanceMatrixCalculator;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 출발역별 행을 병렬로 계산하면서, 계산이 끝나는 대로 출발역 순서대로 내보내는 거리 행렬
+ * 동시에 계산 중인 행은 window 개로 제한하여 행렬 크기와 무관하게 메모리 사용량을 일정하게 유지한다.
+ */
+public class DistanceMatrix {
+    private final List<Long> sourceIds;
+    private final List<Long> targetIds;
+    private final DistanceMatrixCalculator calculator;
+    private final ExecutorService executor;
+    private final int window;
+
+    public DistanceMatrix(List<Long> sourceIds, List<Long> targetIds, DistanceMatrixCalculator calculator,
+                          ExecutorService executor, int window) {
+        this.sourceIds = sourceIds;
+        this.targetIds = targetIds;
+        this.calculator = calculator;
+        this.executor = executor;
+        this.window = window;
+    }
+
+    public List<Long> getSourceIds() {
+        return sourceIds;
+    }
+
+    public List<Long> getTargetIds() {
+        return targetIds;
+    }
+
+    public void forEachRow(RowConsumer consumer) throws IOException {
+        int[] targetIndexes = calculator.indexesOf(targetIds);
+        Deque<Long> pendingSources = new ArrayDeque<>();
+        Deque<Future<int[]>> pendingRows = new ArrayDeque<>();
+        try {
+            for (Long sourceId : sourceIds) {
+                pendingSources.add(sourceId);
+                pendingRows.add(executor.submit(() -> calculator.distancesFrom(sourceId, targetIndexes)));
+                if (pendingRows.size() >= window) {
+                    consumer.accept(pendingSources.poll(), await(pendingRows.poll()));
+                }
+            }
+            while (!pendingRows.isEmpty()) {
+                consumer.accept(pendingSources.poll(), await(pendingRows.poll()));
+            }
+        } finally {
+            pendingRows.forEach(row -> row.cancel(true));
+        }
+    }
+
+    private int[] await(Future<int[]> row) {
+        try {
+            return row.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(CommonCode.ETC);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowConsumer {
+        /**
+         * @param distances targetIds 순서의 거리, 도달할 수 없으면 DistanceMatrixCalculator.UNREACHABLE
+         */
+        void accept(Long sourceId, int[] distances) throws IOException;
+    }
+}
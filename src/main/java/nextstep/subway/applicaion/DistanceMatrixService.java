@@ -0,0 +1,70 @@
+package nextstep.subway.applicaion;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.dto.DistanceMatrixRequest;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RequiredArgsConstructor
+@Service
+public class DistanceMatrixService {
+    private final PathService pathService;
+
+    @Value("${subway.path.matrix.threads:0}")
+    private int threads;
+    @Value("${subway.path.matrix.queue-capacity:256}")
+    private int queueCapacity;
+    @Value("${subway.path.matrix.max-cells:1000000}")
+    private long maxCells;
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * 큐가 가득 차면 요청 스레드가 직접 계산하도록(CallerRunsPolicy) 하여 요청이 몰려도 작업이 무한정 쌓이지 않게 한다.
+     */
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                                          new ArrayBlockingQueue<>(queueCapacity),
+                                          runnable -> {
+                                              Thread thread = new Thread(runnable, "distance-matrix-" + sequence.incrementAndGet());
+                                              thread.setDaemon(true);
+                                              return thread;
+                                          },
+                                          new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public DistanceMatrix findDistanceMatrix(DistanceMatrixRequest request) {
+        List<Long> sourceIds = request.getSourceIds();
+        List<Long> targetIds = request.getTargetIds();
+        validSize(sourceIds, targetIds);
+        return new DistanceMatrix(sourceIds, targetIds, pathService.getDistanceMatrixCalculator(),
+                                  executor, executor.getMaximumPoolSize() * 2);
+    }
+
+    private void validSize(List<Long> sourceIds, List<Long> targetIds) {
+        if (sourceIds == null || targetIds == null || sourceIds.isEmpty() || targetIds.isEmpty()) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+        if ((long) sourceIds.size() * targetIds.size() > maxCells) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+    }
+}
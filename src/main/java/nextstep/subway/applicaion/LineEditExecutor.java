@@ -0,0 +1,82 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.LineCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 노선 편집을 노선별로 줄 세우고, 버전 충돌이면 정해진 횟수만큼 다시 시도한다.
+ * 노선 식별자로 고른 잠금 하나만 잡으므로 서로 다른 노선의 편집은 (같은 줄무늬에 걸리지 않는 한) 동시에 진행된다.
+ * 잠금은 한 인스턴스 안에서만 유효하므로, 다른 인스턴스나 다른 경로의 편집과의 충돌은 Line 의 버전으로 잡는다.
+ * 트랜잭션 밖에서 불러야 다시 시도할 때 새 트랜잭션으로 노선을 다시 읽는다.
+ */
+@Component
+public class LineEditExecutor {
+    private final ReentrantLock[] stripes;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public LineEditExecutor(@Value("${subway.line.edit.lock-stripes:64}") int stripeCount,
+                            @Value("${subway.line.edit.max-attempts:3}") int maxAttempts,
+                            @Value("${subway.line.edit.backoff:10ms}") Duration backoff) {
+        this.stripes = new ReentrantLock[Math.max(stripeCount, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    public void execute(Long lineId, Runnable edit) {
+        execute(lineId, () -> {
+            edit.run();
+            return null;
+        });
+    }
+
+    /**
+     * 잠금은 시도마다 잡았다가 놓으므로, 기다리는 동안 같은 줄무늬의 다른 편집을 막지 않는다.
+     */
+    public <T> T execute(Long lineId, Supplier<T> edit) {
+        ReentrantLock lock = stripeOf(lineId);
+        for (int attempt = 1; ; attempt++) {
+            lock.lock();
+            try {
+                return edit.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new CustomException(LineCode.LINE_CONCURRENT_MODIFICATION);
+                }
+            } finally {
+                lock.unlock();
+            }
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * 다른 인스턴스와 같은 순간에 다시 부딪히지 않도록 시도할수록 길어지는 임의의 시간만큼 기다린다.
+     */
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(LineCode.LINE_CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private ReentrantLock stripeOf(Long lineId) {
+        return stripes[Math.floorMod(lineId.hashCode(), stripes.length)];
+    }
+}
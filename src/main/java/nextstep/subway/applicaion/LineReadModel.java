@@ -0,0 +1,99 @@
+package nextstep.subway.applicaion;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.LineStationView;
+import nextstep.subway.domain.LineStationViewRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 노선 조회 응답을 line_station_view 한 테이블에서 만든다.
+ * 쓰기 메서드는 노선을 바꾼 트랜잭션 안에서만 부를 수 있으므로 읽기 모델은 노선과 함께 커밋되거나 롤백된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LineReadModel {
+    private final LineStationViewRepository lineStationViewRepository;
+    private final LineRepository lineRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Line line) {
+        lineStationViewRepository.saveAll(LineStationView.of(line));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Line line) {
+        lineStationViewRepository.deleteByLineId(line.getId());
+        add(line);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void update(Line line) {
+        lineStationViewRepository.updateLine(line.getId(), line.getName(), line.getColor());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long lineId) {
+        lineStationViewRepository.deleteByLineId(lineId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LineResponse> findById(Long lineId) {
+        List<LineResponse> lines = toResponses(lineStationViewRepository.findRowsByLineId(lineId));
+        return lines.stream().findFirst();
+    }
+
+    /**
+     * @return 식별자 순서, 읽기 모델에 없는 노선은 빠진다
+     */
+    @Transactional(readOnly = true)
+    public List<LineResponse> findAllByIdIn(List<Long> lineIds) {
+        return toResponses(lineStationViewRepository.findRowsByLineIdIn(lineIds));
+    }
+
+    /**
+     * 읽기 모델 테이블이 새로 생겨 비어 있으면 노선 전체로 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (lineStationViewRepository.count() > 0) {
+            return;
+        }
+        lineRepository.findAllWithSections().forEach(this::add);
+    }
+
+    private List<LineResponse> toResponses(List<LineStationView> rows) {
+        List<LineResponse> lines = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            if (i == rows.size() || !rows.get(i).getLineId().equals(rows.get(from).getLineId())) {
+                lines.add(toResponse(rows.subList(from, i)));
+                from = i;
+            }
+        }
+        return lines;
+    }
+
+    private LineResponse toResponse(List<LineStationView> rows) {
+        LineStationView first = rows.get(0);
+        List<StationResponse> stations = new ArrayList<>(rows.size());
+        for (LineStationView row : rows) {
+            if (row.hasStation()) {
+                stations.add(StationResponse.of(row.getStationId(), row.getStationName()));
+            }
+        }
+        return LineResponse.of(first.getLineId(), first.getLineName(), first.getLineColor(), stations);
+    }
+}
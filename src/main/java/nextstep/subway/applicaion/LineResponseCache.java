@@ -0,0 +1,157 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 노선별로 직렬화를 마친 LineResponse JSON 을 담아두는 캐시
+ * 목록 조회는 노선별 JSON 을 이어 붙여 응답하므로 한 노선이 바뀌어도 나머지 노선은 다시 직렬화하지 않는다.
+ * 조회 중에 무효화가 일어났다면 읽어 온 내용은 이미 낡았을 수 있으므로 담지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LineResponseCache {
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] CLOSE = {']'};
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, byte[]> lines = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile List<Long> lineIds;
+
+    public byte[] getLine(Long id, Supplier<LineResponse> loader) {
+        byte[] cached = lines.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        byte[] line = serialize(loader.get());
+        putIfNotInvalidated(loadGeneration, id, line);
+        return line;
+    }
+
+    /**
+     * 캐시에 담긴 JSON 은 한 번만 읽어 스냅샷으로 쓴다. 응답을 만드는 도중에 무효화가 일어나도 노선이 빠지지 않는다.
+     * 식별자 목록을 읽은 뒤 지워진 노선이 있으면 식별자 목록부터 다시 읽는다.
+     *
+     * @param idLoader 노선 식별자 목록, 응답 순서가 된다
+     * @param loader   캐시에 없는 노선들을 한 번에 읽는다
+     */
+    public byte[] getLines(Supplier<List<Long>> idLoader, Function<List<Long>, List<LineResponse>> loader) {
+        Map<Long, byte[]> snapshot = loadLines(idLoader, loader);
+        if (snapshot == null) {
+            lineIds = null;
+            snapshot = loadLines(idLoader, loader);
+        }
+        if (snapshot == null) {
+            throw new IllegalStateException("노선 목록을 읽는 동안 노선이 계속 바뀌었습니다.");
+        }
+        return concatenate(snapshot);
+    }
+
+    /**
+     * @return 식별자 순서대로 담긴 노선별 JSON, 식별자 목록에 있는 노선을 읽지 못했으면 null
+     */
+    private Map<Long, byte[]> loadLines(Supplier<List<Long>> idLoader, Function<List<Long>, List<LineResponse>> loader) {
+        long loadGeneration = generation.get();
+        List<Long> ids = lineIds;
+        if (ids == null) {
+            ids = List.copyOf(idLoader.get());
+            lineIds = ids;
+            if (generation.get() != loadGeneration) {
+                lineIds = null;
+            }
+        }
+
+        Map<Long, byte[]> snapshot = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            byte[] cached = lines.get(id);
+            snapshot.put(id, cached);
+            if (cached == null) {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            for (LineResponse response : loader.apply(missingIds)) {
+                byte[] line = serialize(response);
+                snapshot.replace(response.getId(), line);
+                putIfNotInvalidated(loadGeneration, response.getId(), line);
+            }
+        }
+        if (snapshot.containsValue(null)) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * 역만 생성/삭제된 변경은 어느 노선 응답도 바꾸지 않으므로 무시한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        if (event.isStationOnly()) {
+            return;
+        }
+        generation.incrementAndGet();
+        lineIds = null;
+        if (event.getLineId() == null) {
+            lines.clear();
+            return;
+        }
+        lines.remove(event.getLineId());
+    }
+
+    public int size() {
+        return lines.size();
+    }
+
+    /**
+     * 담은 뒤에 세대를 다시 확인하여, 확인과 담기 사이에 끼어든 무효화도 놓치지 않는다.
+     */
+    private void putIfNotInvalidated(long loadGeneration, Long id, byte[] line) {
+        lines.put(id, line);
+        if (generation.get() != loadGeneration) {
+            lines.remove(id, line);
+        }
+    }
+
+    private byte[] concatenate(Map<Long, byte[]> snapshot) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(OPEN);
+        boolean first = true;
+        for (byte[] line : snapshot.values()) {
+            if (!first) {
+                out.writeBytes(SEPARATOR);
+            }
+            out.writeBytes(line);
+            first = false;
+        }
+        out.writeBytes(CLOSE);
+        return out.toByteArray();
+    }
+
+    private byte[] serialize(LineResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,14 +3,21 @@ package nextstep.subway.applicaion;
 import lombok.RequiredArgsConstructor;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.PageResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.event.LineUpdatedEvent;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Transactional
 @RequiredArgsConstructor
@@ -18,6 +25,12 @@ import java.util.stream.Collectors;
 public class LineService {
     private final LineRepository lineRepository;
     private final StationService stationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LineResponseCache lineResponseCache;
+    private final LineReadModel lineReadModel;
+
+    @Value("${subway.page.max-size:100}")
+    private int maxPageSize;
 
     public LineResponse saveLine(LineRequest request) {
         Line line = lineRepository.save(new Line(request.getName(), request.getColor()));
@@ -25,32 +38,68 @@ public class LineService {
             Station upStation = stationService.findById(request.getUpStationId());
             Station downStation = stationService.findById(request.getDownStationId());
             line.addSection(upStation, downStation, request.getDistance());
+            line.pullSectionChangedEvents().forEach(eventPublisher::publishEvent);
         }
+        lineReadModel.add(line);
+        eventPublisher.publishEvent(NetworkChangedEvent.ofLine(line.getId()));
         return LineResponse.of(line);
     }
 
+    /**
+     * 직렬화된 노선 목록 JSON, 캐시에 없는 노선만 읽기 모델에서 한 번에 읽어 직렬화한다.
+     */
+    @Transactional(readOnly = true)
+    public byte[] showLinesJson() {
+        return lineResponseCache.getLines(lineRepository::findAllIds, lineReadModel::findAllByIdIn);
+    }
+
+    /**
+     * 식별자로 페이지를 자른 뒤 그 노선들만 읽기 모델에서 읽는다. 한 건 더 읽어 다음 페이지가 있는지 확인한다.
+     */
     @Transactional(readOnly = true)
-    public List<LineResponse> showLines() {
-        return lineRepository.findAll().stream()
-                             .map(LineResponse::of)
-                             .collect(Collectors.toList());
+    public PageResponse<LineResponse> showLines(Long after, int size) {
+        validPageSize(size);
+        List<Long> ids = lineRepository.findIdsAfter(after, PageRequest.of(0, size + 1));
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return PageResponse.of(List.of(), null);
+        }
+        List<LineResponse> items = lineReadModel.findAllByIdIn(pageIds);
+        return PageResponse.of(items, hasNext ? pageIds.get(size - 1) : null);
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] findJsonById(Long id) {
+        return lineResponseCache.getLine(id, () -> findById(id));
     }
 
     @Transactional(readOnly = true)
     public LineResponse findById(Long id) {
-        return LineResponse.of(findLine(id));
+        return lineReadModel.findById(id).orElseThrow(IllegalArgumentException::new);
     }
 
     public void updateLine(Long id, LineRequest lineRequest) {
         Line line = findLine(id);
         line.update(lineRequest.getName(), lineRequest.getColor());
+        lineReadModel.update(line);
+        eventPublisher.publishEvent(new LineUpdatedEvent(id, line.getName(), line.getColor()));
+        eventPublisher.publishEvent(NetworkChangedEvent.ofLine(id));
     }
 
     public void deleteLine(Long id) {
         lineRepository.deleteById(id);
+        lineReadModel.remove(id);
+        eventPublisher.publishEvent(NetworkChangedEvent.ofLine(id));
     }
 
     private Line findLine(final Long id) {
         return lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
     }
+
+    private void validPageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+    }
 }
@@ -0,0 +1,235 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.dto.LineImportRequest;
+import nextstep.subway.applicaion.dto.NetworkImportRequest;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import nextstep.subway.applicaion.dto.SectionImportRequest;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.SectionExportRow;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import nextstep.subway.exception.code.NetworkCode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class NetworkService {
+    /**
+     * 영속성 컨텍스트가 커지지 않도록 이만큼 쌓일 때마다 flush 후 비운다. JDBC 배치 크기의 배수로 둔다.
+     */
+    private static final int FLUSH_SIZE = 1000;
+    private static final int EXPORT_FLUSH_LINES = 100;
+
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final SectionRepository sectionRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final LineReadModel lineReadModel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 전체 요청의 구간 연결을 먼저 확인한 뒤에 쓰므로, 잘못된 노선이 있으면 아무것도 저장하지 않는다.
+     * 구간마다의 변경 이벤트는 발행하지 않으며, 소비자는 노선도 전체 변경 이벤트를 받고 다시 만든다.
+     */
+    public NetworkImportResponse importNetwork(NetworkImportRequest request) {
+        Set<String> stationNames = validStations(request.getStations());
+        List<LineImportRequest> lines = request.getLines() == null ? List.of() : request.getLines();
+        lines.forEach(line -> validLine(line, stationNames));
+
+        Map<String, Station> stations = saveStations(request.getStations());
+        int sectionCount = 0;
+        int pending = 0;
+        for (LineImportRequest lineRequest : lines) {
+            Line line = new Line(lineRequest.getName(), lineRequest.getColor());
+            for (SectionImportRequest section : lineRequest.getSections()) {
+                line.addSection(stations.get(section.getUpStation()), stations.get(section.getDownStation()), section.getDistance());
+            }
+            lineRepository.save(line);
+            lineReadModel.add(line);
+            sectionCount += lineRequest.getSections().size();
+            pending += lineRequest.getSections().size() * 2 + 2;
+            if (pending >= FLUSH_SIZE) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+        eventPublisher.publishEvent(NetworkChangedEvent.ofNetwork());
+        return NetworkImportResponse.of(stations.size(), lines.size(), sectionCount);
+    }
+
+    /**
+     * 노선마다 한 줄의 JSON 을 쓴다. 구간은 전방향 커서로 한 행씩 읽어 바로 쓰므로 노선도 크기와 관계없이 메모리 사용량이 일정하다.
+     * 역 목록의 distance 는 앞 역으로부터의 거리이며 상행 종점은 0 이다.
+     */
+    @Transactional(readOnly = true)
+    public void exportNetwork(OutputStream outputStream) throws IOException {
+        try (Stream<SectionExportRow> rows = sectionRepository.streamAllForExport();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            LineExportWriter writer = new LineExportWriter(generator);
+            rows.forEach(writer::write);
+            writer.close();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Set<String> validStations(List<String> names) {
+        if (names == null) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+        Set<String> stationNames = new HashSet<>();
+        for (String name : names) {
+            if (!StringUtils.hasText(name)) {
+                throw new CustomException(CommonCode.PARAM_INVALID);
+            }
+            if (!stationNames.add(name)) {
+                throw new CustomException(NetworkCode.NETWORK_STATION_DUPLICATE);
+            }
+        }
+        validNotRegistered(names);
+        return stationNames;
+    }
+
+    /**
+     * 이미 등록된 역과 이름이 같으면 같은 이름의 역이 둘이 되므로 거절한다. IN 목록이 너무 길지 않도록 나눠서 확인한다.
+     */
+    private void validNotRegistered(List<String> names) {
+        for (int from = 0; from < names.size(); from += FLUSH_SIZE) {
+            if (stationRepository.existsByNameIn(names.subList(from, Math.min(from + FLUSH_SIZE, names.size())))) {
+                throw new CustomException(NetworkCode.NETWORK_STATION_ALREADY_EXISTS);
+            }
+        }
+    }
+
+    /**
+     * 구간은 앞 구간의 하행역에서 시작해야 하고, 한 노선에 같은 역이 두 번 나오면 안 된다.
+     */
+    private void validLine(LineImportRequest line, Set<String> stationNames) {
+        List<SectionImportRequest> sections = line.getSections();
+        if (!StringUtils.hasText(line.getName()) || sections == null || sections.isEmpty()) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+        Set<String> visited = new HashSet<>();
+        String previousDownStation = null;
+        for (SectionImportRequest section : sections) {
+            if (!stationNames.contains(section.getUpStation()) || !stationNames.contains(section.getDownStation())) {
+                throw new CustomException(NetworkCode.NETWORK_STATION_NOT_FOUND);
+            }
+            if (section.getDistance() <= 0) {
+                throw new CustomException(CommonCode.PARAM_INVALID);
+            }
+            if (previousDownStation == null) {
+                visited.add(section.getUpStation());
+            } else if (!previousDownStation.equals(section.getUpStation())) {
+                throw new CustomException(NetworkCode.NETWORK_SECTION_NOT_CONNECTED);
+            }
+            if (!visited.add(section.getDownStation())) {
+                throw new CustomException(NetworkCode.NETWORK_SECTION_NOT_CONNECTED);
+            }
+            previousDownStation = section.getDownStation();
+        }
+    }
+
+    /**
+     * 비운 뒤의 역은 준영속 상태지만, 구간은 역의 식별자만 참조하므로 그대로 사용한다.
+     */
+    private Map<String, Station> saveStations(List<String> names) {
+        Map<String, Station> stations = new HashMap<>();
+        for (String name : names) {
+            stations.put(name, stationRepository.save(new Station(name)));
+            if (stations.size() % FLUSH_SIZE == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return stations;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static class LineExportWriter {
+        private final JsonGenerator generator;
+        private Long currentLineId;
+        private int writtenLines;
+
+        private LineExportWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void write(SectionExportRow row) {
+            try {
+                if (!row.getLineId().equals(currentLineId)) {
+                    close();
+                    open(row);
+                }
+                if (row.hasSection()) {
+                    writeStation(row.getDownStationId(), row.getDownStationName(), row.getDistance());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void open(SectionExportRow row) throws IOException {
+            currentLineId = row.getLineId();
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getLineId());
+            generator.writeStringField("name", row.getLineName());
+            generator.writeStringField("color", row.getLineColor());
+            generator.writeArrayFieldStart("stations");
+            if (row.hasSection()) {
+                writeStation(row.getUpStationId(), row.getUpStationName(), 0);
+            }
+        }
+
+        private void writeStation(Long id, String name, int distance) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("name", name);
+            generator.writeNumberField("distance", distance);
+            generator.writeEndObject();
+        }
+
+        private void close() throws IOException {
+            if (currentLineId == null) {
+                return;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++writtenLines % EXPORT_FLUSH_LINES == 0) {
+                generator.flush();
+            }
+            currentLineId = null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노선/구간이 바뀔 때와 역이 바뀔 때 각각 커밋 이후 하나씩 올라가는 노선도 버전
+ * 역만 바뀐 변경은 노선 응답에 영향이 없으므로 노선 ETag 는 그대로 두고, 노선만 바뀐 변경은 역 ETag 를 그대로 둔다.
+ * 재시작 후 같은 번호가 다른 데이터를 가리키지 않도록 ETag 에는 기동 시각을 함께 넣는다.
+ */
+@Component
+public class NetworkVersion {
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong lineVersion = new AtomicLong();
+    private final AtomicLong stationVersion = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        if (!event.isStationOnly()) {
+            lineVersion.incrementAndGet();
+        }
+        if (event.getLineId() == null) {
+            stationVersion.incrementAndGet();
+        }
+    }
+
+    public String getLinesETag() {
+        return eTag("l", lineVersion.get());
+    }
+
+    public String getStationsETag() {
+        return eTag("s", stationVersion.get());
+    }
+
+    private String eTag(String scope, long version) {
+        return "\"" + scope + epoch + "-" + version + "\"";
+    }
+}
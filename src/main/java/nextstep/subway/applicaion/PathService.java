@@ -0,0 +1,241 @@
+package nextstep.subway.applicaion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nextstep.subway.applicaion.dto.AlternativePathsResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathStatisticsResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.path.AllPairsPathFinder;
+import nextstep.subway.domain.path.AlternativePaths;
+import nextstep.subway.domain.path.DistanceMatrixCalculator;
+import nextstep.subway.domain.path.KShortestPathFinder;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.PathFinderConfig;
+import nextstep.subway.domain.path.PathFinderType;
+import nextstep.subway.domain.path.PathSearchStatistics;
+import nextstep.subway.domain.path.SearchBudget;
+import nextstep.subway.domain.path.StationGraph;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import nextstep.subway.exception.code.PathCode;
+import nextstep.subway.exception.code.StationCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PathService {
+    private final SectionRepository sectionRepository;
+    private final StationRepository stationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${subway.path.engine:dijkstra}")
+    private PathFinderType pathFinderType;
+    @Value("${subway.path.stale-reads:true}")
+    private boolean staleReads;
+    @Value("${subway.path.all-pairs.max-stations:5000}")
+    private int allPairsMaxStations;
+    @Value("${subway.path.alt.landmarks:" + PathFinderConfig.DEFAULT_LANDMARK_COUNT + "}")
+    private int landmarkCount;
+    @Value("${subway.path.alternatives.max-k:10}")
+    private int alternativesMaxK;
+    @Value("${subway.path.alternatives.max-expansions:200000}")
+    private int alternativesMaxExpansions;
+    @Value("${subway.path.alternatives.timeout:50ms}")
+    private Duration alternativesTimeout;
+
+    private final PathSearchStatistics statistics = new PathSearchStatistics();
+    private final AtomicLong networkVersion = new AtomicLong();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "path-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile PathSnapshot snapshot;
+
+    public PathResponse findPath(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new CustomException(PathCode.PATH_SAME_STATION);
+        }
+        PathSnapshot current = currentSnapshot();
+        current.getStation(sourceId);
+        current.getStation(targetId);
+
+        Path path = current.pathFinder.find(sourceId, targetId)
+                                      .orElseThrow(() -> new CustomException(PathCode.PATH_NOT_FOUND));
+        return PathResponse.of(current.getStations(path.getStationIds()), path.getDistance());
+    }
+
+    /**
+     * 요청한 예산은 설정된 최댓값을 넘지 않도록 잘라내며, 예산을 다 쓰면 그때까지 찾은 경로만 응답한다.
+     */
+    public AlternativePathsResponse findAlternativePaths(Long sourceId, Long targetId, int k,
+                                                         Integer maxExpansions, Duration timeout) {
+        if (k < 1 || k > alternativesMaxK) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+        if (sourceId.equals(targetId)) {
+            throw new CustomException(PathCode.PATH_SAME_STATION);
+        }
+        PathSnapshot current = currentSnapshot();
+        current.getStation(sourceId);
+        current.getStation(targetId);
+
+        AlternativePaths alternativePaths = current.kShortestPathFinder.find(sourceId, targetId, k, searchBudget(maxExpansions, timeout));
+        if (alternativePaths.isEmpty()) {
+            throw new CustomException(PathCode.PATH_NOT_FOUND);
+        }
+        List<PathResponse> paths = alternativePaths.getPaths().stream()
+                                                   .map(path -> PathResponse.of(current.getStations(path.getStationIds()), path.getDistance()))
+                                                   .collect(Collectors.toList());
+        return AlternativePathsResponse.of(paths, alternativePaths.getExploredCandidates(), alternativePaths.isComplete());
+    }
+
+    public DistanceMatrixCalculator getDistanceMatrixCalculator() {
+        return currentSnapshot().distanceMatrixCalculator;
+    }
+
+    public PathStatisticsResponse getStatistics() {
+        return PathStatisticsResponse.of(pathFinderType, statistics);
+    }
+
+    /**
+     * 커밋된 변경만 반영되도록 커밋 이후에 버전을 올리고, 백그라운드에서 새 스냅샷을 만들어 교체한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        networkVersion.incrementAndGet();
+        rebuildExecutor.submit(this::rebuildIfStale);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 기본(stale-reads)은 재구성 중에도 이전 스냅샷으로 바로 응답하고,
+     * stale-reads 를 끄면 마지막 변경이 반영된 스냅샷이 준비될 때까지 기다린다.
+     * 스냅샷이 아직 없으면 설정과 관계없이 첫 재구성을 기다린다.
+     */
+    private PathSnapshot currentSnapshot() {
+        PathSnapshot current = snapshot;
+        if (current != null && (staleReads || current.version >= networkVersion.get())) {
+            return current;
+        }
+        return awaitRebuild(rebuildExecutor.submit(this::rebuildIfStale));
+    }
+
+    private PathSnapshot awaitRebuild(final Future<PathSnapshot> rebuild) {
+        try {
+            return rebuild.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(CommonCode.ETC);
+        } catch (ExecutionException e) {
+            log.error("--- 경로 그래프 재구성 실패.  ", e.getCause());
+            throw new CustomException(CommonCode.ETC);
+        }
+    }
+
+    /**
+     * 재구성은 단일 스레드에서만 실행되므로, 뒤이어 쌓인 요청은 이미 최신인 스냅샷을 그대로 돌려준다.
+     */
+    private PathSnapshot rebuildIfStale() {
+        long version = networkVersion.get();
+        PathSnapshot current = snapshot;
+        if (current != null && current.version >= version) {
+            return current;
+        }
+        Map<Long, Station> stations = new HashMap<>();
+        StationGraph graph = readOnlyTransaction().execute(status -> {
+            stationRepository.findAll().forEach(station -> stations.put(station.getId(), station));
+            return StationGraph.of(sectionRepository.findAllWithStations());
+        });
+        PathSnapshot rebuilt = new PathSnapshot(version, stations, createPathFinder(current, graph));
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * 역만 추가/삭제되어 구간 구성이 그대로면 이전 인덱스를 재사용하고, 바뀌었을 때만 다시 전처리한다.
+     */
+    private PathFinder createPathFinder(final PathSnapshot current, final StationGraph graph) {
+        if (current != null && current.pathFinder.getGraph().hasSameTopology(graph)) {
+            return current.pathFinder;
+        }
+        if (pathFinderType == PathFinderType.ALL_PAIRS
+            && graph.size() > Math.min(allPairsMaxStations, AllPairsPathFinder.MAX_STATIONS)) {
+            log.warn("--- 역 수({})가 all-pairs 한도를 넘어 다익스트라로 대체합니다.", graph.size());
+            return PathFinderType.DIJKSTRA.create(graph, pathFinderConfig());
+        }
+        return pathFinderType.create(graph, pathFinderConfig());
+    }
+
+    private SearchBudget searchBudget(Integer maxExpansions, Duration timeout) {
+        int expansions = maxExpansions == null ? alternativesMaxExpansions : Math.min(maxExpansions, alternativesMaxExpansions);
+        Duration limit = timeout == null || timeout.compareTo(alternativesTimeout) > 0 ? alternativesTimeout : timeout;
+        return SearchBudget.of(expansions, limit);
+    }
+
+    private PathFinderConfig pathFinderConfig() {
+        return new PathFinderConfig(statistics, landmarkCount);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    private static class PathSnapshot {
+        private final long version;
+        private final Map<Long, Station> stations;
+        private final PathFinder pathFinder;
+        private final DistanceMatrixCalculator distanceMatrixCalculator;
+        private final KShortestPathFinder kShortestPathFinder;
+
+        private PathSnapshot(long version, Map<Long, Station> stations, PathFinder pathFinder) {
+            this.version = version;
+            this.stations = stations;
+            this.pathFinder = pathFinder;
+            this.distanceMatrixCalculator = new DistanceMatrixCalculator(pathFinder.getGraph());
+            this.kShortestPathFinder = new KShortestPathFinder(pathFinder.getGraph());
+        }
+
+        private Station getStation(Long id) {
+            Station station = stations.get(id);
+            if (station == null) {
+                throw new CustomException(StationCode.STATION_NOT_FOUND);
+            }
+            return station;
+        }
+
+        private List<Station> getStations(List<Long> ids) {
+            return ids.stream()
+                      .map(this::getStation)
+                      .collect(Collectors.toList());
+        }
+    }
+}
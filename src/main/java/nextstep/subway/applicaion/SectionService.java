@@ -2,18 +2,34 @@ package nextstep.subway.applicaion;
 
 import lombok.RequiredArgsConstructor;
 import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
 import nextstep.subway.domain.Station;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class SectionService {
     private final LineRepository lineRepository;
     private final StationService stationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final LineReadModel lineReadModel;
 
     public void addSection(Long lineId, SectionRequest sectionRequest) {
         Station upStation = stationService.findById(sectionRequest.getUpStationId());
@@ -21,15 +37,63 @@ public class SectionService {
         Line line = findLine(lineId);
 
         line.addSection(upStation, downStation, sectionRequest.getDistance());
+        publishEvents(line);
+    }
+
+    /**
+     * 노선을 한 번 읽고 요청 순서대로 모두 추가한다. 하나라도 추가할 수 없으면 트랜잭션 전체가 롤백된다.
+     */
+    public void addSections(Long lineId, List<SectionRequest> sectionRequests) {
+        if (sectionRequests == null || sectionRequests.isEmpty()) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
+        Map<Long, Station> stations = stationService.findAllById(stationIds(sectionRequests));
+        Line line = findLine(lineId);
+
+        line.addSections(sectionRequests.stream()
+                                        .map(request -> Section.builder()
+                                                               .upStation(stations.get(request.getUpStationId()))
+                                                               .downStation(stations.get(request.getDownStationId()))
+                                                               .distance(request.getDistance())
+                                                               .build())
+                                        .collect(Collectors.toList()));
+        publishEvents(line);
     }
 
     public void deleteSection(Long lineId, Long stationId) {
         Line line = findLine(lineId);
         Station station = stationService.findById(stationId);
         line.removeSection(station);
+        publishEvents(line);
+    }
+
+    /**
+     * 읽기 모델을 같은 트랜잭션에서 고친 뒤, 구간 변경 이벤트를 일어난 순서대로 먼저 발행한다. 세밀하게 갱신하지 않는 소비자는 NetworkChangedEvent 만 듣는다.
+     */
+    private void publishEvents(final Line line) {
+        lineReadModel.refresh(line);
+        line.pullSectionChangedEvents().forEach(eventPublisher::publishEvent);
+        eventPublisher.publishEvent(NetworkChangedEvent.ofLine(line.getId()));
+    }
+
+    private Set<Long> stationIds(final List<SectionRequest> sectionRequests) {
+        Set<Long> ids = new HashSet<>();
+        for (SectionRequest request : sectionRequests) {
+            if (request.getUpStationId() == null || request.getDownStationId() == null) {
+                throw new CustomException(CommonCode.PARAM_INVALID);
+            }
+            ids.add(request.getUpStationId());
+            ids.add(request.getDownStationId());
+        }
+        return ids;
     }
 
+    /**
+     * 구간만 바뀌어도 커밋 때 노선 버전을 올려, 같은 노선을 동시에 편집한 트랜잭션 중 하나를 버전 충돌로 실패시킨다.
+     */
     private Line findLine(final Long lineId) {
-        return lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
+        Line line = lineRepository.findWithSectionsById(lineId).orElseThrow(IllegalArgumentException::new);
+        entityManager.lock(line, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        return line;
     }
 }
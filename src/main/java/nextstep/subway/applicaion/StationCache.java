@@ -0,0 +1,105 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.event.StationDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 식별자로 조회한 역을 담아두는 크기/만료 시간 제한 캐시
+ * 가장 오래 조회되지 않은 역부터 밀어낸다. 담긴 역은 여러 스레드와 트랜잭션이 함께 쓰므로
+ * loader 는 어느 영속성 컨텍스트에도 속하지 않는(detached) 역을 돌려줘야 한다.
+ */
+@Component
+public class StationCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, CachedStation> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long epoch;
+
+    public StationCache(@Value("${subway.station.cache.max-size:1000}") int maxSize,
+                        @Value("${subway.station.cache.ttl:10m}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, CachedStation> eldest) {
+                return size() > StationCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 조회하는 동안 무효화가 일어났다면 읽어 온 역은 이미 낡았을 수 있으므로 담지 않는다.
+     */
+    public Station get(Long id, Function<Long, Station> loader) {
+        long now = System.nanoTime();
+        long loadEpoch;
+        synchronized (this) {
+            CachedStation entry = entries.get(id);
+            if (entry != null && now - entry.loadedAt < ttlNanos) {
+                hits.increment();
+                return entry.station;
+            }
+            loadEpoch = epoch;
+        }
+        misses.increment();
+        Station station = loader.apply(id);
+        synchronized (this) {
+            if (loadEpoch == epoch && maxSize > 0) {
+                entries.put(id, new CachedStation(station, now));
+            }
+        }
+        return station;
+    }
+
+    public synchronized void evict(Long id) {
+        epoch++;
+        entries.remove(id);
+    }
+
+    public synchronized void clear() {
+        epoch++;
+        entries.clear();
+    }
+
+    /**
+     * 역 삭제가 커밋된 뒤 다시 비워, 커밋 전에 다른 요청이 다시 담아 둔 역도 지운다.
+     * 새 역은 새 식별자를 가지므로 역이 생기거나 노선도를 가져와도 담아 둔 역이 낡지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationDeleted(StationDeletedEvent event) {
+        evict(event.getStationId());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static class CachedStation {
+        private final Station station;
+        private final long loadedAt;
+
+        private CachedStation(Station station, long loadedAt) {
+            this.station = station;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package nextstep.subway.applicaion;
 
 import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.dto.PageResponse;
+import nextstep.subway.applicaion.dto.StationCacheStatisticsResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.event.StationCreatedEvent;
+import nextstep.subway.domain.event.StationDeletedEvent;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import nextstep.subway.exception.code.StationCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Transactional
@@ -16,9 +31,17 @@ import java.util.stream.Collectors;
 @Service
 public class StationService {
     private final StationRepository stationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StationCache stationCache;
+
+    @Value("${subway.page.max-size:100}")
+    private int maxPageSize;
 
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        stationCache.evict(station.getId());
+        eventPublisher.publishEvent(new StationCreatedEvent(station.getId(), station.getName()));
+        eventPublisher.publishEvent(NetworkChangedEvent.ofStation(station.getId()));
         return StationResponse.of(station);
     }
 
@@ -29,11 +52,58 @@ public class StationService {
                                 .collect(Collectors.toList());
     }
 
+    /**
+     * 한 건 더 읽어 다음 페이지가 있는지 확인한다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<StationResponse> findStations(Long after, int size) {
+        validPageSize(size);
+        List<Station> stations = stationRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, size + 1));
+        boolean hasNext = stations.size() > size;
+        List<StationResponse> items = stations.stream()
+                                              .limit(size)
+                                              .map(StationResponse::of)
+                                              .collect(Collectors.toList());
+        return PageResponse.of(items, hasNext ? items.get(size - 1).getId() : null);
+    }
+
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        stationCache.evict(id);
+        eventPublisher.publishEvent(new StationDeletedEvent(id));
+        eventPublisher.publishEvent(NetworkChangedEvent.ofStation(id));
+    }
+
+    /**
+     * 여러 역을 한 번의 쿼리로 읽는다. 하나라도 없으면 findById 와 같이 실패한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Station> findAllById(Collection<Long> ids) {
+        Map<Long, Station> stations = stationRepository.findAllById(ids).stream()
+                                                       .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != new HashSet<>(ids).size()) {
+            throw new CustomException(StationCode.STATION_NOT_FOUND);
+        }
+        return stations;
     }
 
+    /**
+     * 캐시에는 호출한 트랜잭션의 영속성 컨텍스트에 속한 역 대신 식별자와 이름만 복사한 역을 담는다.
+     */
     public Station findById(Long id) {
-        return stationRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        return stationCache.get(id, key -> stationRepository.findById(key)
+                                                            .map(station -> new Station(station.getId(), station.getName()))
+                                                            .orElseThrow(() -> new CustomException(StationCode.STATION_NOT_FOUND)));
+    }
+
+    @Transactional(readOnly = true)
+    public StationCacheStatisticsResponse getCacheStatistics() {
+        return StationCacheStatisticsResponse.of(stationCache);
+    }
+
+    private void validPageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new CustomException(CommonCode.PARAM_INVALID);
+        }
     }
 }
@@ -0,0 +1,25 @@
+package nextstep.subway.applicaion.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AlternativePathsResponse {
+    private List<PathResponse> paths;
+    private int exploredCandidates;
+    private boolean complete;
+
+    private AlternativePathsResponse() {
+    }
+
+    private AlternativePathsResponse(List<PathResponse> paths, int exploredCandidates, boolean complete) {
+        this.paths = paths;
+        this.exploredCandidates = exploredCandidates;
+        this.complete = complete;
+    }
+
+    public static AlternativePathsResponse of(List<PathResponse> paths, int exploredCandidates, boolean complete) {
+        return new AlternativePathsResponse(paths, exploredCandidates, complete);
+    }
+}
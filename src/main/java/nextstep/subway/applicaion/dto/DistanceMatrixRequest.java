@@ -0,0 +1,21 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class DistanceMatrixRequest {
+    private List<Long> sourceIds;
+    private List<Long> targetIds;
+
+    public DistanceMatrixRequest(final List<Long> sourceIds, final List<Long> targetIds) {
+        this.sourceIds = sourceIds;
+        this.targetIds = targetIds;
+    }
+
+    public List<Long> getSourceIds() {
+        return sourceIds;
+    }
+
+    public List<Long> getTargetIds() {
+        return targetIds;
+    }
+}
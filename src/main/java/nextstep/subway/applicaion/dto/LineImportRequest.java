@@ -0,0 +1,30 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+/**
+ * sections 는 상행 종점부터 하행 종점까지 이어지는 순서로 받는다.
+ */
+public class LineImportRequest {
+    private String name;
+    private String color;
+    private List<SectionImportRequest> sections;
+
+    public LineImportRequest(final String name, final String color, final List<SectionImportRequest> sections) {
+        this.name = name;
+        this.color = color;
+        this.sections = sections;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<SectionImportRequest> getSections() {
+        return sections;
+    }
+}
@@ -22,6 +22,10 @@ public class LineResponse {
         this.stations = stations;
     }
 
+    public static LineResponse of(Long id, String name, String color, List<StationResponse> stations) {
+        return new LineResponse(id, name, color, stations);
+    }
+
     public static LineResponse of(Line line) {
         return new LineResponse(
             line.getId(),
@@ -0,0 +1,21 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class NetworkImportRequest {
+    private List<String> stations;
+    private List<LineImportRequest> lines;
+
+    public NetworkImportRequest(final List<String> stations, final List<LineImportRequest> lines) {
+        this.stations = stations;
+        this.lines = lines;
+    }
+
+    public List<String> getStations() {
+        return stations;
+    }
+
+    public List<LineImportRequest> getLines() {
+        return lines;
+    }
+}
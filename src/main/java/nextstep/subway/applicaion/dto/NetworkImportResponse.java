@@ -0,0 +1,23 @@
+package nextstep.subway.applicaion.dto;
+
+import lombok.Getter;
+
+@Getter
+public class NetworkImportResponse {
+    private int stations;
+    private int lines;
+    private int sections;
+
+    private NetworkImportResponse() {
+    }
+
+    private NetworkImportResponse(int stations, int lines, int sections) {
+        this.stations = stations;
+        this.lines = lines;
+        this.sections = sections;
+    }
+
+    public static NetworkImportResponse of(int stations, int lines, int sections) {
+        return new NetworkImportResponse(stations, lines, sections);
+    }
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.applicaion.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 식별자 기준 커서 페이지, 다음 페이지가 없으면 nextCursor 는 null 이다.
+ */
+@Getter
+public class PageResponse<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    private PageResponse() {
+    }
+
+    private PageResponse(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> PageResponse<T> of(List<T> items, Long nextCursor) {
+        return new PageResponse<>(items, nextCursor);
+    }
+}
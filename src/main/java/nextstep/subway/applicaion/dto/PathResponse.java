@@ -0,0 +1,30 @@
+package nextstep.subway.applicaion.dto;
+
+import lombok.Getter;
+import nextstep.subway.domain.Station;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+
+    private PathResponse() {
+    }
+
+    private PathResponse(List<StationResponse> stations, int distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public static PathResponse of(List<Station> stations, int distance) {
+        return new PathResponse(
+            stations.stream()
+                    .map(StationResponse::of)
+                    .collect(Collectors.toList()),
+            distance
+        );
+    }
+}
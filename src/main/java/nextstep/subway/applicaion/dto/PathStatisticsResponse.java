@@ -0,0 +1,32 @@
+package nextstep.subway.applicaion.dto;
+
+import lombok.Getter;
+import nextstep.subway.domain.path.PathFinderType;
+import nextstep.subway.domain.path.PathSearchStatistics;
+
+@Getter
+public class PathStatisticsResponse {
+    private String engine;
+    private long queries;
+    private long settledNodes;
+    private double averageSettledNodes;
+
+    private PathStatisticsResponse() {
+    }
+
+    private PathStatisticsResponse(String engine, long queries, long settledNodes, double averageSettledNodes) {
+        this.engine = engine;
+        this.queries = queries;
+        this.settledNodes = settledNodes;
+        this.averageSettledNodes = averageSettledNodes;
+    }
+
+    public static PathStatisticsResponse of(PathFinderType type, PathSearchStatistics statistics) {
+        return new PathStatisticsResponse(
+            type.name(),
+            statistics.getQueries(),
+            statistics.getSettledNodes(),
+            statistics.getAverageSettledNodes()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package nextstep.subway.applicaion.dto;
+
+public class SectionImportRequest {
+    private String upStation;
+    private String downStation;
+    private int distance;
+
+    public SectionImportRequest(final String upStation, final String downStation, final int distance) {
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+    }
+
+    public String getUpStation() {
+        return upStation;
+    }
+
+    public String getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,24 @@
+package nextstep.subway.applicaion.dto;
+
+import lombok.Getter;
+import nextstep.subway.applicaion.StationCache;
+
+@Getter
+public class StationCacheStatisticsResponse {
+    private int size;
+    private long hits;
+    private long misses;
+
+    private StationCacheStatisticsResponse() {
+    }
+
+    private StationCacheStatisticsResponse(int size, long hits, long misses) {
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    public static StationCacheStatisticsResponse of(StationCache stationCache) {
+        return new StationCacheStatisticsResponse(stationCache.size(), stationCache.getHits(), stationCache.getMisses());
+    }
+}
@@ -16,6 +16,10 @@ public class StationResponse {
         this.name = name;
     }
 
+    public static StationResponse of(Long id, String name) {
+        return new StationResponse(id, name);
+    }
+
     public static StationResponse of(Station station) {
         return new StationResponse(
             station.getId(),
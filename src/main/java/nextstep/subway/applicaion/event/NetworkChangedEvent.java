@@ -0,0 +1,35 @@
+package nextstep.subway.applicaion.event;
+
+import lombok.Getter;
+
+/**
+ * 역, 노선, 구간이 변경되어 네트워크로부터 파생된 데이터를 갱신해야 함을 알리는 이벤트
+ * 특정 노선에 한정되지 않는 변경이면 lineId 는 null 이다.
+ * 역만 생성/삭제된 변경이면 stationId 를 담는다. 구간이 있는 역은 삭제되지 않으므로 노선 응답은 바뀌지 않는다.
+ */
+@Getter
+public class NetworkChangedEvent {
+    private final Long lineId;
+    private final Long stationId;
+
+    private NetworkChangedEvent(final Long lineId, final Long stationId) {
+        this.lineId = lineId;
+        this.stationId = stationId;
+    }
+
+    public static NetworkChangedEvent ofLine(final Long lineId) {
+        return new NetworkChangedEvent(lineId, null);
+    }
+
+    public static NetworkChangedEvent ofStation(final Long stationId) {
+        return new NetworkChangedEvent(null, stationId);
+    }
+
+    public static NetworkChangedEvent ofNetwork() {
+        return new NetworkChangedEvent(null, null);
+    }
+
+    public boolean isStationOnly() {
+        return stationId != null;
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.subway.applicaion.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.LineResponseCache;
+import nextstep.subway.applicaion.StationCache;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노선도 규모(역/노선/구간 수)와 캐시 상태 게이지
+ * 규모 게이지는 수집(scrape)할 때마다 count 쿼리를 한 번씩 보낸다.
+ */
+@RequiredArgsConstructor
+@Component
+public class NetworkMetrics implements MeterBinder {
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final SectionRepository sectionRepository;
+    private final StationCache stationCache;
+    private final LineResponseCache lineResponseCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.stations", stationRepository, StationRepository::count)
+             .description("역 수")
+             .register(registry);
+        Gauge.builder("subway.lines", lineRepository, LineRepository::count)
+             .description("노선 수")
+             .register(registry);
+        Gauge.builder("subway.sections", sectionRepository, SectionRepository::count)
+             .description("구간 수")
+             .register(registry);
+
+        Gauge.builder("subway.cache.size", stationCache, StationCache::size)
+             .tag("cache", "station")
+             .register(registry);
+        FunctionCounter.builder("subway.cache.requests", stationCache, StationCache::getHits)
+                       .tag("cache", "station")
+                       .tag("result", "hit")
+                       .register(registry);
+        FunctionCounter.builder("subway.cache.requests", stationCache, StationCache::getMisses)
+                       .tag("cache", "station")
+                       .tag("result", "miss")
+                       .register(registry);
+        Gauge.builder("subway.cache.size", lineResponseCache, LineResponseCache::size)
+             .tag("cache", "line-response")
+             .register(registry);
+    }
+}
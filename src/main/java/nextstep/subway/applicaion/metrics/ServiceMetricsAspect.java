@@ -0,0 +1,79 @@
+package nextstep.subway.applicaion.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.CommonCode;
+import nextstep.subway.exception.code.ResponseCode;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노선/구간/역 서비스 호출마다 걸린 시간과 실패를 기록한다.
+ * 트랜잭션 바깥에서 감싸므로 커밋(flush) 중 실패와 커밋에 걸린 시간도 포함된다.
+ * 실패는 GlobalExceptionHandler 가 응답하는 것과 같은 ResponseCode 로 나누어 센다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@RequiredArgsConstructor
+@Component
+public class ServiceMetricsAspect {
+    static final String CALLS = "subway.service.calls";
+    static final String FAILURES = "subway.service.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(nextstep.subway.applicaion.LineService)"
+            + " || within(nextstep.subway.applicaion.SectionService)"
+            + " || within(nextstep.subway.applicaion.StationService)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timer(service, method, "SUCCESS"));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(service, method, "FAILURE"));
+            failureCounter(service, method, responseCodeOf(e)).increment();
+            throw e;
+        }
+    }
+
+    private Timer timer(String service, String method, String outcome) {
+        return Timer.builder(CALLS)
+                    .description("서비스 호출 시간")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+    }
+
+    private Counter failureCounter(String service, String method, ResponseCode responseCode) {
+        return Counter.builder(FAILURES)
+                      .description("ResponseCode 별 서비스 실패 수")
+                      .tag("service", service)
+                      .tag("method", method)
+                      .tag("type", responseCode.getClass().getSimpleName())
+                      .tag("code", String.valueOf(responseCode.getCode()))
+                      .tag("name", responseCode.toString())
+                      .register(meterRegistry);
+    }
+
+    /**
+     * CustomException 이 아닌 예외는 GlobalExceptionHandler 와 같이 알 수 없는 오류로 센다.
+     */
+    private ResponseCode responseCodeOf(Throwable e) {
+        if (e instanceof CustomException) {
+            return ((CustomException) e).getResponseCode();
+        }
+        return CommonCode.ETC;
+    }
+}
@@ -3,6 +3,7 @@ package nextstep.subway.domain;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import nextstep.subway.domain.event.SectionChangedEvent;
 import org.springframework.util.StringUtils;
 
 import javax.persistence.Embedded;
@@ -10,18 +11,27 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Version;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class Line {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_seq_generator")
+    @SequenceGenerator(name = "line_seq_generator", sequenceName = "line_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String color;
     @Embedded
     private Sections sections = new Sections();
+    /**
+     * 구간 컬렉션은 Section 쪽이 관리하므로 구간 편집만으로는 이 값이 오르지 않는다. 구간을 편집할 때는 강제로 올린다.
+     */
+    @Version
+    private Long version;
 
     public Line(String name, String color) {
         this.name = name;
@@ -44,6 +54,11 @@ public class Line {
         sections.add(section);
     }
 
+    public void addSections(final List<Section> newSections) {
+        newSections.forEach(section -> section.setLine(this));
+        sections.addAll(newSections);
+    }
+
     public void addSection(Station upStation, Station downStation, int distance) {
         this.addSection(Section.builder()
                                .upStation(upStation)
@@ -51,6 +66,10 @@ public class Line {
                                .distance(distance).build());
     }
 
+    public List<SectionChangedEvent> pullSectionChangedEvents() {
+        return sections.pullEvents(id);
+    }
+
     public void update(final String name, final String color) {
         this.name = StringUtils.hasText(name) ? name : this.name;
         this.color = StringUtils.hasText(color) ? color : this.color;
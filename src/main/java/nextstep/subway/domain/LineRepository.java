@@ -1,10 +1,50 @@
 package nextstep.subway.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.annotations.QueryHints.PASS_DISTINCT_THROUGH;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
     @Override
     List<Line> findAll();
-}
\ No newline at end of file
+
+    /**
+     * 노선 목록 조회용, 구간과 구간의 역까지 한 번의 쿼리로 읽는다.
+     */
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l"
+           + " left join fetch l.sections.sections s"
+           + " left join fetch s.upStation"
+           + " left join fetch s.downStation"
+           + " order by l.id, s.ordinal")
+    List<Line> findAllWithSections();
+
+    @Query("select l.id from Line l order by l.id")
+    List<Long> findAllIds();
+
+    /**
+     * 페이지 조회용, 구간을 fetch join 한 채로는 행 수 제한을 걸 수 없으므로 노선 식별자만 먼저 자른다.
+     */
+    @Query("select l.id from Line l where l.id > :after order by l.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 노선 단건 조회와 구간 추가/삭제용, 구간 편집 중 역 비교로 프록시가 하나씩 초기화되지 않도록 역까지 함께 읽는다.
+     */
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l"
+           + " left join fetch l.sections.sections s"
+           + " left join fetch s.upStation"
+           + " left join fetch s.downStation"
+           + " where l.id = :id"
+           + " order by s.ordinal")
+    Optional<Line> findWithSectionsById(@Param("id") Long id);
+}
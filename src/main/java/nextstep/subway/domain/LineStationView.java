@@ -0,0 +1,69 @@
+package nextstep.subway.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노선 조회용 읽기 모델, 노선의 역을 상행 종점부터 한 행씩 노선 정보와 함께 펼쳐 둔다.
+ * 구간이 없는 노선은 역 없이 한 행만 둔다. distance 는 상행 종점으로부터의 누적 거리다.
+ * 노선/구간을 바꾸는 트랜잭션 안에서 노선 단위로 다시 쓴다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "line_station_view", indexes = @Index(name = "idx_line_station_view_line", columnList = "lineId, ordinal"))
+public class LineStationView {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_station_view_seq_generator")
+    @SequenceGenerator(name = "line_station_view_seq_generator", sequenceName = "line_station_view_seq", allocationSize = 50)
+    private Long id;
+    private Long lineId;
+    private String lineName;
+    private String lineColor;
+    private int ordinal;
+    private Long stationId;
+    private String stationName;
+    private int distance;
+
+    public LineStationView(Long lineId, String lineName, String lineColor, int ordinal, Long stationId, String stationName, int distance) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.lineColor = lineColor;
+        this.ordinal = ordinal;
+        this.stationId = stationId;
+        this.stationName = stationName;
+        this.distance = distance;
+    }
+
+    public static List<LineStationView> of(Line line) {
+        List<Section> sections = line.getSections().getSectionsSorted();
+        if (sections.isEmpty()) {
+            return List.of(new LineStationView(line.getId(), line.getName(), line.getColor(), 0, null, null, 0));
+        }
+        List<LineStationView> rows = new ArrayList<>(sections.size() + 1);
+        Station upEndStation = sections.get(0).getUpStation();
+        rows.add(new LineStationView(line.getId(), line.getName(), line.getColor(), 0, upEndStation.getId(), upEndStation.getName(), 0));
+        int distance = 0;
+        for (Section section : sections) {
+            distance += section.getDistance();
+            Station station = section.getDownStation();
+            rows.add(new LineStationView(line.getId(), line.getName(), line.getColor(), rows.size(), station.getId(), station.getName(), distance));
+        }
+        return rows;
+    }
+
+    public boolean hasStation() {
+        return stationId != null;
+    }
+}
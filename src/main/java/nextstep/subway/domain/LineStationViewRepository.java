@@ -0,0 +1,31 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 조회는 생성자 표현식으로 읽어 영속성 컨텍스트에 올리지 않는다.
+ */
+public interface LineStationViewRepository extends JpaRepository<LineStationView, Long> {
+    @Query("select new nextstep.subway.domain.LineStationView("
+           + "v.lineId, v.lineName, v.lineColor, v.ordinal, v.stationId, v.stationName, v.distance)"
+           + " from LineStationView v where v.lineId = :lineId order by v.ordinal")
+    List<LineStationView> findRowsByLineId(@Param("lineId") Long lineId);
+
+    @Query("select new nextstep.subway.domain.LineStationView("
+           + "v.lineId, v.lineName, v.lineColor, v.ordinal, v.stationId, v.stationName, v.distance)"
+           + " from LineStationView v where v.lineId in :lineIds order by v.lineId, v.ordinal")
+    List<LineStationView> findRowsByLineIdIn(@Param("lineIds") List<Long> lineIds);
+
+    @Modifying
+    @Query("update LineStationView v set v.lineName = :name, v.lineColor = :color where v.lineId = :lineId")
+    void updateLine(@Param("lineId") Long lineId, @Param("name") String name, @Param("color") String color);
+
+    @Modifying
+    @Query("delete from LineStationView v where v.lineId = :lineId")
+    void deleteByLineId(@Param("lineId") Long lineId);
+}
@@ -7,11 +7,13 @@ import nextstep.subway.exception.code.CommonCode;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import java.util.List;
 import java.util.Objects;
 
@@ -19,23 +21,26 @@ import java.util.Objects;
 @Entity
 public class Section {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq_generator")
+    @SequenceGenerator(name = "section_seq_generator", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "line_id")
     private Line line;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "up_station_id")
     private Station upStation;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "down_station_id")
     private Station downStation;
 
     private int distance;
 
+    private int ordinal;
+
     public Section() {
     }
 
@@ -83,6 +88,10 @@ public class Section {
         this.line = line;
     }
 
+    void changeOrdinal(final int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     public boolean hasStation(final Station station) {
         return downStation.equals(station) || upStation.equals(station);
     }
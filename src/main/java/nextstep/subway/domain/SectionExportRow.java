@@ -0,0 +1,35 @@
+package nextstep.subway.domain;
+
+import lombok.Getter;
+
+/**
+ * 노선도 내보내기용 조회 결과 한 행, 구간이 없는 노선은 역/거리 값이 null 인 한 행으로 나온다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않는다.
+ */
+@Getter
+public class SectionExportRow {
+    private final Long lineId;
+    private final String lineName;
+    private final String lineColor;
+    private final Long upStationId;
+    private final String upStationName;
+    private final Long downStationId;
+    private final String downStationName;
+    private final Integer distance;
+
+    public SectionExportRow(Long lineId, String lineName, String lineColor, Long upStationId, String upStationName,
+                            Long downStationId, String downStationName, Integer distance) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.lineColor = lineColor;
+        this.upStationId = upStationId;
+        this.upStationName = upStationName;
+        this.downStationId = downStationId;
+        this.downStationName = downStationName;
+        this.distance = distance;
+    }
+
+    public boolean hasSection() {
+        return distance != null;
+    }
+}
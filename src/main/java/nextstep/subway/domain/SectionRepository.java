@@ -0,0 +1,33 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+    @Query("select s from Section s join fetch s.upStation join fetch s.downStation order by s.id")
+    List<Section> findAllWithStations();
+
+    /**
+     * 노선 순서, 노선 안에서는 구간 순서대로 읽는 전방향 커서, 스트림을 연 트랜잭션 안에서 닫아야 한다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select new nextstep.subway.domain.SectionExportRow("
+           + "l.id, l.name, l.color, up.id, up.name, down.id, down.name, s.distance)"
+           + " from Line l"
+           + " left join l.sections.sections s"
+           + " left join s.upStation up"
+           + " left join s.downStation down"
+           + " order by l.id, s.ordinal")
+    Stream<SectionExportRow> streamAllForExport();
+}
@@ -3,6 +3,9 @@ package nextstep.subway.domain;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import nextstep.subway.domain.event.SectionChangeType;
+import nextstep.subway.domain.event.SectionChangedEvent;
+import nextstep.subway.domain.event.SectionSnapshot;
 import nextstep.subway.exception.CustomException;
 import nextstep.subway.exception.code.CommonCode;
 import nextstep.subway.exception.code.SectionCode;
@@ -10,9 +13,13 @@ import nextstep.subway.exception.code.SectionCode;
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,20 +30,104 @@ import java.util.stream.Collectors;
 public class Sections {
     public static final int INVALID_REMOVE_SIZE = 1;
 
+    /**
+     * 상행 종점부터 하행 종점 순서로 유지하며, 각 구간의 ordinal 은 목록에서의 위치와 같다.
+     */
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
+    @OrderBy("ordinal")
     private final List<Section> sections = new ArrayList<>();
 
+    /**
+     * 상행역/하행역 id 기준 구간 색인
+     * Station 의 equals 는 id 또는 이름으로 비교해 hashCode 와 맞지 않으므로 역 자체가 아닌 id 를 키로 쓴다.
+     * JPA 가 컬렉션을 채우거나 교체하면 indexedSections 와 달라지므로 다음 조회 때 다시 만든다.
+     */
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private transient Map<Long, Section> sectionsByUpStation;
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private transient Map<Long, Section> sectionsByDownStation;
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private transient List<Section> indexedSections;
+
+    /**
+     * 아직 이벤트로 꺼내지 않은 구간 변경, 새 구간은 저장 전이라 이벤트는 꺼낼 때 만든다.
+     */
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private transient List<SectionChange> changes;
+
     public void add(final Section section) {
+        renumber(insert(section));
+    }
+
+    /**
+     * 순서대로 모두 추가하거나, 하나라도 추가할 수 없으면 아무것도 추가하지 않는다.
+     * 역 연결은 추가하기 전에 한 번에 검증하고, 구간을 나눌 때의 거리만 추가하면서 검증한다.
+     * 색인은 추가할 때마다 갱신하므로 구간마다 다시 만들지 않고, 구간 순서 값은 마지막에 한 번만 고친다.
+     */
+    public void addAll(final List<Section> newSections) {
+        validConnectable(newSections);
+        List<Section> before = new ArrayList<>(sections);
+        int changeCount = changes().size();
+        int from = Integer.MAX_VALUE;
+        try {
+            for (Section section : newSections) {
+                from = Math.min(from, place(section));
+            }
+        } catch (RuntimeException e) {
+            sections.clear();
+            sections.addAll(before);
+            indexedSections = null;
+            changes().subList(changeCount, changes().size()).clear();
+            throw e;
+        }
+        renumber(from);
+    }
+
+    /**
+     * @return 위치가 바뀐 첫 구간의 위치
+     */
+    private int insert(final Section section) {
+        if (!sections.isEmpty()) {
+            validNotExistStation(section);
+            validExistAllStation(section);
+        }
+        return place(section);
+    }
+
+    /**
+     * 역 연결이 이미 검증된 구간을 제자리에 넣는다.
+     * @return 위치가 바뀐 첫 구간의 위치
+     */
+    private int place(final Section section) {
         if (sections.isEmpty()) {
-            sections.add(section);
-            return;
+            addToSections(0, section);
+            record(SectionChangeType.SECTION_ADDED, List.of(), List.of(section));
+            return 0;
         }
 
-        validNotExistStation(section);
-        validExistAllStation(section);
+        int from = addSectionIfNotBetween(section);
+        return Math.min(from, addSectionIfBetween(section));
+    }
 
-        addSectionIfNotBetween(section);
-        addSectionIfBetween(section);
+    /**
+     * 앞 구간들이 추가된 뒤의 역 목록을 따라가며, 각 구간이 두 역 중 정확히 하나만 노선에 있는지 확인한다.
+     */
+    private void validConnectable(final List<Section> newSections) {
+        Set<Long> stationIds = new HashSet<>(sectionsByUpStation().keySet());
+        stationIds.addAll(sectionsByDownStation().keySet());
+        for (Section section : newSections) {
+            boolean hasUpStation = stationIds.contains(section.getUpStation().getId());
+            boolean hasDownStation = stationIds.contains(section.getDownStation().getId());
+            if (!stationIds.isEmpty() && hasUpStation == hasDownStation) {
+                throw new CustomException(CommonCode.PARAM_INVALID);
+            }
+            stationIds.add(section.getUpStation().getId());
+            stationIds.add(section.getDownStation().getId());
+        }
     }
 
     private void validNotExistStation(final Section section) {
@@ -51,18 +142,26 @@ public class Sections {
         }
     }
 
-    private void addSectionIfNotBetween(final Section section) {
+    private int addSectionIfNotBetween(final Section section) {
         Station upEndStation = getUpEndStation();
         Station downEndStation = getDownEndStation();
-        if (upEndStation.equals(section.getDownStation()) || downEndStation.equals(section.getUpStation())) {
-            sections.add(section);
+        if (upEndStation.equals(section.getDownStation())) {
+            addToSections(0, section);
+            record(SectionChangeType.SECTION_ADDED, List.of(), List.of(section));
+            return 0;
+        }
+        if (downEndStation.equals(section.getUpStation())) {
+            addToSections(sections.size(), section);
+            record(SectionChangeType.SECTION_ADDED, List.of(), List.of(section));
+            return sections.size() - 1;
         }
+        return Integer.MAX_VALUE;
     }
 
-    private void addSectionIfBetween(final Section section) {
+    private int addSectionIfBetween(final Section section) {
         Section matchSection = getSectionHasSameStation(section).orElse(null);
         if (matchSection == null || matchSection.equals(section)) {
-            return;
+            return Integer.MAX_VALUE;
         }
         if (matchSection.getDistance() <= section.getDistance()) {
             throw new CustomException(CommonCode.PARAM_INVALID);
@@ -74,17 +173,26 @@ public class Sections {
                               section.getUpStation() :
                               matchSection.getDownStation();
         int distance = matchSection.getDistance() - section.getDistance();
-        sections.add(new Section(matchSection.getLine(), upStation, downStation, distance));
-        sections.add(section);
-        sections.remove(matchSection);
+        Section splitSection = new Section(matchSection.getLine(), upStation, downStation, distance);
+        int index = removeFromSections(matchSection);
+        if (matchSection.hasSameDownStation(section.getDownStation())) {
+            addToSections(index, splitSection);
+            addToSections(index + 1, section);
+            record(SectionChangeType.SECTION_SPLIT, List.of(matchSection), List.of(splitSection, section));
+            return index;
+        }
+        addToSections(index, section);
+        addToSections(index + 1, splitSection);
+        record(SectionChangeType.SECTION_SPLIT, List.of(matchSection), List.of(section, splitSection));
+        return index;
     }
 
     public void removeSection(final Station station) {
         validInvalidRemoveSize();
         validStationExist(station);
 
-        removeIfNotBetween(station);
-        removeIfBetween(station);
+        int from = removeIfNotBetween(station);
+        renumber(Math.min(from, removeIfBetween(station)));
     }
 
     private void validStationExist(final Station station) {
@@ -99,30 +207,50 @@ public class Sections {
         }
     }
 
-    private void removeIfNotBetween(final Station station) {
+    private int removeIfNotBetween(final Station station) {
+        int from = Integer.MAX_VALUE;
         Optional<Section> upEndSection = getUpEndSection();
         if(upEndSection.isPresent() && station.equals(upEndSection.get().getUpStation())){
-            sections.remove(upEndSection.get());
+            from = removeFromSections(upEndSection.get());
+            record(SectionChangeType.STATION_REMOVED, List.of(upEndSection.get()), List.of());
         }
 
         Optional<Section> downEndSection = getDownEndSection();
         if(downEndSection.isPresent() && station.equals(downEndSection.get().getDownStation())){
-            sections.remove(downEndSection.get());
+            from = Math.min(from, removeFromSections(downEndSection.get()));
+            record(SectionChangeType.STATION_REMOVED, List.of(downEndSection.get()), List.of());
         }
+        return from;
     }
 
-    private void removeIfBetween(final Station station) {
+    private int removeIfBetween(final Station station) {
         Optional<Section> beforeSection = getSectionHasSameDownStation(station);
         Optional<Section> afterSection = getSectionHasSameUpStation(station);
 
         if (afterSection.isEmpty() || beforeSection.isEmpty()){
-            return;
+            return Integer.MAX_VALUE;
         }
 
         int newDistance = afterSection.get().getDistance() + beforeSection.get().getDistance();
-        sections.add(new Section(beforeSection.get().getLine(), beforeSection.get().getUpStation(), afterSection.get().getDownStation(), newDistance));
-        sections.remove(beforeSection.get());
-        sections.remove(afterSection.get());
+        int index = removeFromSections(beforeSection.get());
+        removeFromSections(afterSection.get());
+        Section mergedSection = new Section(beforeSection.get().getLine(), beforeSection.get().getUpStation(), afterSection.get().getDownStation(), newDistance);
+        addToSections(index, mergedSection);
+        record(SectionChangeType.SECTIONS_MERGED, List.of(beforeSection.get(), afterSection.get()), List.of(mergedSection));
+        return index;
+    }
+
+    /**
+     * 기록된 구간 변경을 일어난 순서대로 이벤트로 꺼내고 비운다.
+     */
+    public List<SectionChangedEvent> pullEvents(final Long lineId) {
+        List<SectionChangedEvent> events = changes().stream()
+                                                    .map(change -> new SectionChangedEvent(lineId, change.type,
+                                                                                           snapshots(change.before),
+                                                                                           snapshots(change.after)))
+                                                    .collect(Collectors.toList());
+        changes().clear();
+        return events;
     }
 
     public int size() {
@@ -134,27 +262,19 @@ public class Sections {
     }
 
     public Station getDownEndStation() {
-        Set<Station> stations = new HashSet<>(getStations());
-        for (Section section : getSections()) {
-            stations.remove(section.getUpStation());
-        }
-        return new ArrayList<>(stations).get(0);
+        return sections.get(sections.size() - 1).getDownStation();
     }
 
     public Station getUpEndStation() {
-        Set<Station> stations = new HashSet<>(getStations());
-        for (Section section : getSections()) {
-            stations.remove(section.getDownStation());
-        }
-        return new ArrayList<>(stations).get(0);
+        return sections.get(0).getUpStation();
     }
 
     public Optional<Section> getUpEndSection(){
-        return getSectionHasSameUpStation(getUpEndStation());
+        return sections.stream().findFirst();
     }
 
     public Optional<Section> getDownEndSection(){
-        return getSectionHasSameDownStation(getDownEndStation());
+        return sections.isEmpty() ? Optional.empty() : Optional.of(sections.get(sections.size() - 1));
     }
 
     public List<Station> getStations() {
@@ -167,21 +287,18 @@ public class Sections {
 
 
     public List<Station> getStationsSorted() {
-        return getSectionsSorted().stream()
-                                  .map(Section::getAllStation)
-                                  .flatMap(List::stream)
-                                  .distinct()
-                                  .collect(Collectors.toUnmodifiableList());
+        List<Section> sortedSections = getSectionsSorted();
+        if (sortedSections.isEmpty()) {
+            return List.of();
+        }
+        List<Station> result = new ArrayList<>(sortedSections.size() + 1);
+        result.add(sortedSections.get(0).getUpStation());
+        sortedSections.forEach(section -> result.add(section.getDownStation()));
+        return List.copyOf(result);
     }
 
     public List<Section> getSectionsSorted() {
-        List<Section> result = new ArrayList<>();
-        Optional<Section> section = getSectionHasSameUpStation(getUpEndStation());
-        while (section.isPresent()) {
-            result.add(section.get());
-            section = getSectionHasSameUpStation(section.get().getDownStation());
-        }
-        return result;
+        return new ArrayList<>(sections);
     }
 
     public List<Section> getSections() {
@@ -202,19 +319,105 @@ public class Sections {
     }
 
     private Optional<Section> getSectionHasSameUpStation(final Station station) {
-        return sections.stream()
-                       .filter(section -> section.hasSameUpStation(station))
-                       .findFirst();
+        return Optional.ofNullable(sectionsByUpStation().get(station.getId()));
     }
 
     private Optional<Section> getSectionHasSameDownStation(final Station station) {
-        return sections.stream()
-                       .filter(section -> section.hasSameDownStation(station))
-                       .findFirst();
+        return Optional.ofNullable(sectionsByDownStation().get(station.getId()));
     }
 
     private boolean hasStation(Station station) {
+        return sectionsByUpStation().containsKey(station.getId()) || sectionsByDownStation().containsKey(station.getId());
+    }
+
+    private void addToSections(final int index, final Section section) {
+        index();
+        sections.add(index, section);
+        sectionsByUpStation.put(section.getUpStation().getId(), section);
+        sectionsByDownStation.put(section.getDownStation().getId(), section);
+    }
+
+    /**
+     * 구간의 ordinal 이 아직 위치와 같으면 목록을 훑지 않고 바로 찾는다.
+     * 여러 구간을 한 번에 바꾸는 중이라 ordinal 이 어긋난 경우에만 indexOf 로 찾는다.
+     * @return 제거한 구간이 있던 위치
+     */
+    private int removeFromSections(final Section section) {
+        index();
+        int index = positionOf(section);
+        sections.remove(index);
+        sectionsByUpStation.remove(section.getUpStation().getId(), section);
+        sectionsByDownStation.remove(section.getDownStation().getId(), section);
+        return index;
+    }
+
+    private int positionOf(final Section section) {
+        int ordinal = section.getOrdinal();
+        if (ordinal < sections.size() && sections.get(ordinal) == section) {
+            return ordinal;
+        }
+        return sections.indexOf(section);
+    }
+
+    /**
+     * 위치가 바뀐 구간만 ordinal 이 달라지므로 변경 감지로 그 구간들만 갱신된다.
+     * 추가/제거 한 번이 끝난 뒤 바뀐 첫 위치부터 한 번만 부른다.
+     */
+    private void renumber(final int from) {
+        for (int ordinal = from; ordinal < sections.size(); ordinal++) {
+            sections.get(ordinal).changeOrdinal(ordinal);
+        }
+    }
+
+    private void record(final SectionChangeType type, final List<Section> before, final List<Section> after) {
+        changes().add(new SectionChange(type, before, after));
+    }
+
+    private List<SectionChange> changes() {
+        if (changes == null) {
+            changes = new ArrayList<>();
+        }
+        return changes;
+    }
+
+    private static List<SectionSnapshot> snapshots(final List<Section> sections) {
         return sections.stream()
-                       .anyMatch(section -> section.hasStation(station));
+                       .map(SectionSnapshot::of)
+                       .collect(Collectors.toList());
+    }
+
+    private Map<Long, Section> sectionsByUpStation() {
+        index();
+        return sectionsByUpStation;
+    }
+
+    private Map<Long, Section> sectionsByDownStation() {
+        index();
+        return sectionsByDownStation;
+    }
+
+    private void index() {
+        if (indexedSections == sections && sectionsByUpStation.size() == sections.size()) {
+            return;
+        }
+        sectionsByUpStation = new HashMap<>();
+        sectionsByDownStation = new HashMap<>();
+        for (Section section : sections) {
+            sectionsByUpStation.put(section.getUpStation().getId(), section);
+            sectionsByDownStation.put(section.getDownStation().getId(), section);
+        }
+        indexedSections = sections;
+    }
+
+    private static final class SectionChange {
+        private final SectionChangeType type;
+        private final List<Section> before;
+        private final List<Section> after;
+
+        private SectionChange(final SectionChangeType type, final List<Section> before, final List<Section> after) {
+            this.type = type;
+            this.before = before;
+            this.after = after;
+        }
     }
 }
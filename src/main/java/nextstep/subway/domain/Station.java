@@ -6,13 +6,15 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import java.util.Objects;
 
 @Getter
 @Entity
 public class Station {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_seq_generator")
+    @SequenceGenerator(name = "station_seq_generator", sequenceName = "station_seq", allocationSize = 50)
     private Long id;
     private String name;
 
@@ -33,15 +35,18 @@ public class Station {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof Station)) {
             return false;
         }
         final Station station = (Station) o;
-        return Objects.equals(id, station.id) || Objects.equals(name, station.name);
+        return Objects.equals(getId(), station.getId()) || Objects.equals(getName(), station.getName());
     }
 
+    /**
+     * 지연 로딩 프록시와 비교해도 같은 결과가 나오도록 필드 대신 getter 로 비교한다.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return Objects.hash(getName());
     }
 }
@@ -1,6 +1,16 @@
 package nextstep.subway.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface StationRepository extends JpaRepository<Station, Long> {
-}
\ No newline at end of file
+    /**
+     * 식별자 커서 다음부터 기본키 인덱스 순서로 읽는다. 건너뛸 행을 세지 않으므로 뒤쪽 페이지도 비용이 같다.
+     */
+    List<Station> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    boolean existsByNameIn(Collection<String> names);
+}
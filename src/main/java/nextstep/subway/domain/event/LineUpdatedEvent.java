@@ -0,0 +1,22 @@
+package nextstep.subway.domain.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 노선 이름/색상 변경 뒤의 값, 바뀌지 않은 항목도 현재 값으로 담는다.
+ * 트랜잭션 안에서 발행되므로 롤백된 변경을 받지 않으려면 @TransactionalEventListener 로 듣는다.
+ */
+@Getter
+@ToString
+public class LineUpdatedEvent {
+    private final Long lineId;
+    private final String name;
+    private final String color;
+
+    public LineUpdatedEvent(final Long lineId, final String name, final String color) {
+        this.lineId = lineId;
+        this.name = name;
+        this.color = color;
+    }
+}
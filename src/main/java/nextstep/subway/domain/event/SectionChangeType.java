@@ -0,0 +1,20 @@
+package nextstep.subway.domain.event;
+
+public enum SectionChangeType {
+    /**
+     * 빈 노선의 첫 구간, 또는 상행/하행 종점에 이어 붙인 구간 (before 없음, after 1개)
+     */
+    SECTION_ADDED,
+    /**
+     * 기존 구간 사이에 역을 넣어 한 구간을 둘로 나눔 (before 1개, after 2개)
+     */
+    SECTION_SPLIT,
+    /**
+     * 중간역을 제거하여 앞뒤 두 구간을 하나로 합침 (before 2개, after 1개)
+     */
+    SECTIONS_MERGED,
+    /**
+     * 상행/하행 종점역을 제거하여 끝 구간이 사라짐 (before 1개, after 없음)
+     */
+    STATION_REMOVED
+}
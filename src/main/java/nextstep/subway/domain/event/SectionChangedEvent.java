@@ -0,0 +1,27 @@
+package nextstep.subway.domain.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 노선의 구간 한 번의 변경, before 구간들이 사라지고 after 구간들이 그 자리에 (상행 → 하행 순서로) 생겼다.
+ * 구간 추가/제거를 부른 서비스가 발행하며, 소비하는 쪽은 커밋 뒤에 받도록 @TransactionalEventListener 로 듣는다.
+ */
+@Getter
+@ToString
+public class SectionChangedEvent {
+    private final Long lineId;
+    private final SectionChangeType type;
+    private final List<SectionSnapshot> before;
+    private final List<SectionSnapshot> after;
+
+    public SectionChangedEvent(final Long lineId, final SectionChangeType type,
+                               final List<SectionSnapshot> before, final List<SectionSnapshot> after) {
+        this.lineId = lineId;
+        this.type = type;
+        this.before = List.copyOf(before);
+        this.after = List.copyOf(after);
+    }
+}
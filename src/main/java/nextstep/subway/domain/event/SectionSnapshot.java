@@ -0,0 +1,28 @@
+package nextstep.subway.domain.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import nextstep.subway.domain.Section;
+
+/**
+ * 커밋 뒤 영속성 컨텍스트 밖에서 읽어도 되도록 구간의 역 식별자와 거리만 옮겨 담은 값
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class SectionSnapshot {
+    private final Long upStationId;
+    private final Long downStationId;
+    private final int distance;
+
+    public SectionSnapshot(final Long upStationId, final Long downStationId, final int distance) {
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public static SectionSnapshot of(final Section section) {
+        return new SectionSnapshot(section.getUpStation().getId(), section.getDownStation().getId(), section.getDistance());
+    }
+}
@@ -0,0 +1,20 @@
+package nextstep.subway.domain.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 역 생성, StationService 가 저장 직후 트랜잭션 안에서 발행한다.
+ * 커밋된 역만 받아야 하면 @TransactionalEventListener 로 듣는다.
+ */
+@Getter
+@ToString
+public class StationCreatedEvent {
+    private final Long stationId;
+    private final String name;
+
+    public StationCreatedEvent(final Long stationId, final String name) {
+        this.stationId = stationId;
+        this.name = name;
+    }
+}
@@ -0,0 +1,17 @@
+package nextstep.subway.domain.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 역 삭제, 삭제가 커밋되기 전에 발행되므로 소비하는 쪽은 @TransactionalEventListener 로 커밋 뒤에 받는다.
+ */
+@Getter
+@ToString
+public class StationDeletedEvent {
+    private final Long stationId;
+
+    public StationDeletedEvent(final Long stationId) {
+        this.stationId = stationId;
+    }
+}
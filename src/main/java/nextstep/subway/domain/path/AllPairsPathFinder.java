@@ -0,0 +1,98 @@
+package nextstep.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * 모든 역 쌍의 최단 거리와 직전 역을 미리 계산해 두고 조회 시에는 표만 읽는 경로 탐색기
+ * 역마다 한 번씩의 단일 출발 다익스트라를 코어 수만큼 병렬로 수행해 표를 채운다.
+ * 역 수의 제곱에 비례하는 메모리(역 n 개당 8 * n^2 바이트)를 사용하므로 역 수가 적은 네트워크에서만 사용한다.
+ */
+public final class AllPairsPathFinder implements PathFinder {
+    public static final int MAX_STATIONS = 46_340;
+    private static final int NONE = -1;
+
+    private final StationGraph graph;
+    private final int size;
+    private final int[] distances;
+    private final int[] predecessors;
+    private final PathSearchStatistics statistics;
+
+    private AllPairsPathFinder(final StationGraph graph, final int[] distances, final int[] predecessors,
+                               final PathSearchStatistics statistics) {
+        this.graph = graph;
+        this.statistics = statistics;
+        this.size = graph.size();
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public static AllPairsPathFinder of(final StationGraph graph) {
+        return of(graph, new PathSearchStatistics());
+    }
+
+    public static AllPairsPathFinder of(final StationGraph graph, final PathSearchStatistics statistics) {
+        int size = graph.size();
+        if (size > MAX_STATIONS) {
+            throw new IllegalArgumentException("all-pairs table supports up to " + MAX_STATIONS + " stations: " + size);
+        }
+        int[] distances = new int[size * size];
+        int[] predecessors = new int[size * size];
+        WorkspacePool<DijkstraSearch> searches = new WorkspacePool<>(() -> new DijkstraSearch(graph));
+
+        IntStream.range(0, size).parallel().forEach(source -> {
+            DijkstraSearch search = searches.acquire();
+            try {
+                search.searchAll(source);
+                int row = source * size;
+                for (int target = 0; target < size; target++) {
+                    int distance = search.distanceTo(target);
+                    distances[row + target] = distance;
+                    predecessors[row + target] = distance == DijkstraSearch.UNREACHABLE ? NONE : search.previousOf(target);
+                }
+            } finally {
+                searches.release(search);
+            }
+        });
+        return new AllPairsPathFinder(graph, distances, predecessors, statistics);
+    }
+
+    @Override
+    public Optional<Path> find(final Long sourceId, final Long targetId) {
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+        int distance = distance(source, target);
+        statistics.record(0);
+        if (distance == DijkstraSearch.UNREACHABLE) {
+            return Optional.empty();
+        }
+
+        int row = source * size;
+        List<Long> stationIds = new ArrayList<>();
+        for (int node = target; node != NONE; node = predecessors[row + node]) {
+            stationIds.add(graph.stationIdAt(node));
+        }
+        Collections.reverse(stationIds);
+        return Optional.of(new Path(stationIds, distance));
+    }
+
+    public int distance(final int source, final int target) {
+        return distances[source * size + target];
+    }
+
+    @Override
+    public StationGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public PathSearchStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.domain.path;
+
+import java.util.List;
+
+/**
+ * 거리 오름차순의 대체 경로 목록
+ * 탐색 예산을 다 써서 멈췄다면 complete 는 false 이고, 그때까지 확정된 경로만 담는다.
+ */
+public final class AlternativePaths {
+    private final List<Path> paths;
+    private final int exploredCandidates;
+    private final int expansions;
+    private final boolean complete;
+
+    public AlternativePaths(final List<Path> paths, final int exploredCandidates, final int expansions,
+                            final boolean complete) {
+        this.paths = List.copyOf(paths);
+        this.exploredCandidates = exploredCandidates;
+        this.expansions = expansions;
+        this.complete = complete;
+    }
+
+    public List<Path> getPaths() {
+        return paths;
+    }
+
+    public int getExploredCandidates() {
+        return exploredCandidates;
+    }
+
+    public int getExpansions() {
+        return expansions;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+}
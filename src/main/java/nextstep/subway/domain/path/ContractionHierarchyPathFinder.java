@@ -0,0 +1,470 @@
+package nextstep.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 축약 계층(contraction hierarchy) 인덱스로 조회하는 경로 탐색기
+ * 전처리에서 중요도가 낮은 역부터 축약하며 필요한 지름길 간선을 추가하고,
+ * 조회 시에는 출발역과 도착역 양쪽에서 순위가 높아지는 방향으로만 탐색해 두 탐색이 만나는 지점을 찾는다.
+ * 구간이 바뀌면 인덱스 전체를 다시 축약해야 하므로 경로 스냅샷 재구성 시점에 새로 만든다.
+ */
+public final class ContractionHierarchyPathFinder implements PathFinder {
+    private static final int NONE = -1;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final StationGraph graph;
+    private final int[] ranks;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] middles;
+    private final PathSearchStatistics statistics;
+    private final WorkspacePool<Workspace> workspaces;
+
+    private ContractionHierarchyPathFinder(final StationGraph graph, final int[] ranks,
+                                           final int[] offsets, final int[] targets, final int[] weights, final int[] middles,
+                                           final PathSearchStatistics statistics) {
+        this.graph = graph;
+        this.statistics = statistics;
+        this.ranks = ranks;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.middles = middles;
+        this.workspaces = new WorkspacePool<>(() -> new Workspace(graph.size()));
+    }
+
+    public static ContractionHierarchyPathFinder of(final StationGraph graph) {
+        return of(graph, new PathSearchStatistics());
+    }
+
+    public static ContractionHierarchyPathFinder of(final StationGraph graph, final PathSearchStatistics statistics) {
+        return new Contractor(graph).contract(statistics);
+    }
+
+    @Override
+    public Optional<Path> find(final Long sourceId, final Long targetId) {
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        Workspace workspace = workspaces.acquire();
+        try {
+            return find(workspace, source, target);
+        } finally {
+            workspaces.release(workspace);
+        }
+    }
+
+    private Optional<Path> find(final Workspace workspace, final int source, final int target) {
+        UpwardSearch forward = workspace.forward;
+        UpwardSearch backward = workspace.backward;
+        forward.start(source);
+        backward.start(target);
+
+        int best = DijkstraSearch.UNREACHABLE;
+        int meeting = source == target ? source : NONE;
+        if (meeting != NONE) {
+            best = 0;
+        }
+        int settled = 0;
+        while (forward.hasNextBelow(best) || backward.hasNextBelow(best)) {
+            UpwardSearch current = forward.hasNextBelow(best) ? forward : backward;
+            UpwardSearch opposite = current == forward ? backward : forward;
+            int node = current.settleNext();
+            settled++;
+            if (opposite.isReached(node) && current.distanceTo(node) + opposite.distanceTo(node) < best) {
+                best = current.distanceTo(node) + opposite.distanceTo(node);
+                meeting = node;
+            }
+        }
+        statistics.record(settled);
+        if (meeting == NONE) {
+            return Optional.empty();
+        }
+        return Optional.of(new Path(unpack(workspace, source, meeting), best));
+    }
+
+    @Override
+    public StationGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public PathSearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int shortcutCount() {
+        int shortcuts = 0;
+        for (int middle : middles) {
+            if (middle != NONE) {
+                shortcuts++;
+            }
+        }
+        return shortcuts;
+    }
+
+    private List<Long> unpack(final Workspace workspace, final int source, final int meeting) {
+        IntStack upward = workspace.upward;
+        upward.clear();
+        for (int node = meeting; node != source; node = workspace.forward.previous[node]) {
+            upward.push(node);
+        }
+
+        List<Long> stationIds = new ArrayList<>();
+        stationIds.add(graph.stationIdAt(source));
+        int from = source;
+        while (!upward.isEmpty()) {
+            int to = upward.pop();
+            appendUnpacked(workspace.pending, from, to, stationIds);
+            from = to;
+        }
+        for (int node = meeting; workspace.backward.previous[node] != NONE; node = workspace.backward.previous[node]) {
+            appendUnpacked(workspace.pending, node, workspace.backward.previous[node], stationIds);
+        }
+        return stationIds;
+    }
+
+    /**
+     * from 다음 역부터 to 까지를 지름길을 풀어 이어 붙인다. 재귀 대신 명시적 스택을 사용한다.
+     */
+    private void appendUnpacked(final IntStack pending, final int from, final int to, final List<Long> stationIds) {
+        pending.clear();
+        pending.push(to);
+        pending.push(from);
+        while (!pending.isEmpty()) {
+            int a = pending.pop();
+            int b = pending.pop();
+            int middle = middleOf(a, b);
+            if (middle == NONE) {
+                stationIds.add(graph.stationIdAt(b));
+                continue;
+            }
+            pending.push(b);
+            pending.push(middle);
+            pending.push(middle);
+            pending.push(a);
+        }
+    }
+
+    private int middleOf(final int a, final int b) {
+        int lower = ranks[a] < ranks[b] ? a : b;
+        int higher = lower == a ? b : a;
+        for (int edge = offsets[lower]; edge < offsets[lower + 1]; edge++) {
+            if (targets[edge] == higher) {
+                return middles[edge];
+            }
+        }
+        throw new IllegalStateException("missing hierarchy edge " + a + "-" + b);
+    }
+
+    private final class UpwardSearch {
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] reachedGeneration;
+        private final IntMinHeap heap;
+        private int generation;
+
+        private UpwardSearch(final int size) {
+            this.distances = new int[size];
+            this.previous = new int[size];
+            this.reachedGeneration = new int[size];
+            this.heap = new IntMinHeap(size);
+        }
+
+        private void start(final int source) {
+            if (++generation == 0) {
+                Arrays.fill(reachedGeneration, 0);
+                generation = 1;
+            }
+            heap.clear();
+            reach(source, 0, NONE);
+        }
+
+        private boolean hasNextBelow(final int bound) {
+            return !heap.isEmpty() && heap.peekKey() < bound;
+        }
+
+        private boolean isReached(final int node) {
+            return reachedGeneration[node] == generation;
+        }
+
+        private int distanceTo(final int node) {
+            return distances[node];
+        }
+
+        private int settleNext() {
+            int node = heap.poll();
+            int distance = distances[node];
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                int next = targets[edge];
+                int candidate = distance + weights[edge];
+                if (!isReached(next) || candidate < distances[next]) {
+                    reach(next, candidate, node);
+                }
+            }
+            return node;
+        }
+
+        private void reach(final int node, final int distance, final int from) {
+            reachedGeneration[node] = generation;
+            distances[node] = distance;
+            previous[node] = from;
+            heap.push(node, distance);
+        }
+    }
+
+    private final class Workspace {
+        private final UpwardSearch forward;
+        private final UpwardSearch backward;
+        private final IntStack upward = new IntStack();
+        private final IntStack pending = new IntStack();
+
+        private Workspace(final int size) {
+            this.forward = new UpwardSearch(size);
+            this.backward = new UpwardSearch(size);
+        }
+    }
+
+    private static final class IntStack {
+        private int[] values = new int[16];
+        private int size;
+
+        private void push(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int pop() {
+            return values[--size];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * 전처리 전용 가변 그래프. 역마다 (이웃, 거리, 지름길 중간역) 목록을 두고 역 쌍마다 가장 짧은 간선 하나만 유지한다.
+     */
+    private static final class Contractor {
+        private final StationGraph graph;
+        private final int size;
+        private final int[][] neighbors;
+        private final int[][] neighborWeights;
+        private final int[][] neighborMiddles;
+        private final int[] degrees;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] ranks;
+
+        private final int[] witnessDistances;
+        private final int[] witnessGeneration;
+        private final IntMinHeap witnessHeap;
+        private int generation;
+
+        private Contractor(final StationGraph graph) {
+            this.graph = graph;
+            this.size = graph.size();
+            this.neighbors = new int[size][];
+            this.neighborWeights = new int[size][];
+            this.neighborMiddles = new int[size][];
+            this.degrees = new int[size];
+            this.contracted = new boolean[size];
+            this.contractedNeighbors = new int[size];
+            this.ranks = new int[size];
+            this.witnessDistances = new int[size];
+            this.witnessGeneration = new int[size];
+            this.witnessHeap = new IntMinHeap(size);
+
+            for (int node = 0; node < size; node++) {
+                int capacity = Math.max(2, graph.edgeEnd(node) - graph.edgeStart(node));
+                neighbors[node] = new int[capacity];
+                neighborWeights[node] = new int[capacity];
+                neighborMiddles[node] = new int[capacity];
+            }
+            for (int node = 0; node < size; node++) {
+                for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                    putEdge(node, graph.target(edge), graph.weight(edge), NONE);
+                }
+            }
+        }
+
+        private ContractionHierarchyPathFinder contract(final PathSearchStatistics statistics) {
+            IntMinHeap queue = new IntMinHeap(size);
+            for (int node = 0; node < size; node++) {
+                queue.push(node, priority(node));
+            }
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                int priority = priority(node);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.push(node, priority);
+                    continue;
+                }
+                contractNode(node);
+                ranks[node] = rank++;
+            }
+            return buildUpwardGraph(statistics);
+        }
+
+        private int priority(final int node) {
+            int shortcuts = processNeighbors(node, false);
+            int edges = 0;
+            for (int i = 0; i < degrees[node]; i++) {
+                if (!contracted[neighbors[node][i]]) {
+                    edges++;
+                }
+            }
+            return shortcuts - edges + contractedNeighbors[node];
+        }
+
+        private void contractNode(final int node) {
+            processNeighbors(node, true);
+            contracted[node] = true;
+            for (int i = 0; i < degrees[node]; i++) {
+                contractedNeighbors[neighbors[node][i]]++;
+            }
+        }
+
+        /**
+         * node 를 지나는 이웃 쌍 중 우회로(witness)가 없는 쌍의 수를 센다. apply 이면 지름길을 실제로 추가한다.
+         */
+        private int processNeighbors(final int node, final boolean apply) {
+            int shortcuts = 0;
+            int degree = degrees[node];
+            for (int i = 0; i < degree; i++) {
+                int from = neighbors[node][i];
+                if (contracted[from]) {
+                    continue;
+                }
+                int fromWeight = neighborWeights[node][i];
+                int limit = NONE;
+                for (int j = i + 1; j < degree; j++) {
+                    if (!contracted[neighbors[node][j]]) {
+                        limit = Math.max(limit, fromWeight + neighborWeights[node][j]);
+                    }
+                }
+                if (limit == NONE) {
+                    continue;
+                }
+                witnessSearch(from, node, limit);
+                for (int j = i + 1; j < degree; j++) {
+                    int to = neighbors[node][j];
+                    if (contracted[to]) {
+                        continue;
+                    }
+                    int viaNode = fromWeight + neighborWeights[node][j];
+                    if (witnessDistance(to) <= viaNode) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (apply) {
+                        putEdge(from, to, viaNode, node);
+                        putEdge(to, from, viaNode, node);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        private void witnessSearch(final int source, final int excluded, final int limit) {
+            if (++generation == 0) {
+                Arrays.fill(witnessGeneration, 0);
+                generation = 1;
+            }
+            witnessHeap.clear();
+            witnessGeneration[source] = generation;
+            witnessDistances[source] = 0;
+            witnessHeap.push(source, 0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                if (witnessHeap.peekKey() > limit) {
+                    break;
+                }
+                int node = witnessHeap.poll();
+                int distance = witnessDistances[node];
+                for (int i = 0; i < degrees[node]; i++) {
+                    int next = neighbors[node][i];
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    int candidate = distance + neighborWeights[node][i];
+                    if (witnessGeneration[next] != generation || candidate < witnessDistances[next]) {
+                        witnessGeneration[next] = generation;
+                        witnessDistances[next] = candidate;
+                        witnessHeap.push(next, candidate);
+                    }
+                }
+            }
+            witnessHeap.clear();
+        }
+
+        private int witnessDistance(final int node) {
+            return witnessGeneration[node] == generation ? witnessDistances[node] : DijkstraSearch.UNREACHABLE;
+        }
+
+        private void putEdge(final int from, final int to, final int weight, final int middle) {
+            for (int i = 0; i < degrees[from]; i++) {
+                if (neighbors[from][i] == to) {
+                    if (weight < neighborWeights[from][i]) {
+                        neighborWeights[from][i] = weight;
+                        neighborMiddles[from][i] = middle;
+                    }
+                    return;
+                }
+            }
+            if (degrees[from] == neighbors[from].length) {
+                int capacity = neighbors[from].length * 2;
+                neighbors[from] = Arrays.copyOf(neighbors[from], capacity);
+                neighborWeights[from] = Arrays.copyOf(neighborWeights[from], capacity);
+                neighborMiddles[from] = Arrays.copyOf(neighborMiddles[from], capacity);
+            }
+            int index = degrees[from]++;
+            neighbors[from][index] = to;
+            neighborWeights[from][index] = weight;
+            neighborMiddles[from][index] = middle;
+        }
+
+        private ContractionHierarchyPathFinder buildUpwardGraph(final PathSearchStatistics statistics) {
+            int[] offsets = new int[size + 1];
+            for (int node = 0; node < size; node++) {
+                int upward = 0;
+                for (int i = 0; i < degrees[node]; i++) {
+                    if (ranks[neighbors[node][i]] > ranks[node]) {
+                        upward++;
+                    }
+                }
+                offsets[node + 1] = offsets[node] + upward;
+            }
+            int[] targets = new int[offsets[size]];
+            int[] weights = new int[offsets[size]];
+            int[] middles = new int[offsets[size]];
+            for (int node = 0; node < size; node++) {
+                int edge = offsets[node];
+                for (int i = 0; i < degrees[node]; i++) {
+                    if (ranks[neighbors[node][i]] > ranks[node]) {
+                        targets[edge] = neighbors[node][i];
+                        weights[edge] = neighborWeights[node][i];
+                        middles[edge] = neighborMiddles[node][i];
+                        edge++;
+                    }
+                }
+            }
+            return new ContractionHierarchyPathFinder(graph, ranks, offsets, targets, weights, middles, statistics);
+        }
+    }
+}
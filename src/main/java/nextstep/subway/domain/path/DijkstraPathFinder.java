@@ -0,0 +1,79 @@
+package nextstep.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조회마다 다익스트라 탐색을 수행하는 기본 경로 탐색기
+ * 그래프는 불변이며, 탐색 작업 공간은 탐색기가 소유한 풀에서 빌려 쓰고 돌려준다.
+ */
+public class DijkstraPathFinder implements PathFinder {
+    private final StationGraph graph;
+    private final PathSearchStatistics statistics;
+    private final WorkspacePool<Workspace> workspaces;
+
+    public DijkstraPathFinder(final StationGraph graph) {
+        this(graph, new PathSearchStatistics());
+    }
+
+    public DijkstraPathFinder(final StationGraph graph, final PathSearchStatistics statistics) {
+        this.graph = graph;
+        this.statistics = statistics;
+        this.workspaces = new WorkspacePool<>(() -> new Workspace(graph));
+    }
+
+    @Override
+    public Optional<Path> find(final Long sourceId, final Long targetId) {
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        Workspace workspace = workspaces.acquire();
+        try {
+            return find(workspace, source, target);
+        } finally {
+            workspaces.release(workspace);
+        }
+    }
+
+    private Optional<Path> find(final Workspace workspace, final int source, final int target) {
+        int distance = workspace.search.search(source, target);
+        statistics.record(workspace.search.settledCount());
+        if (distance == DijkstraSearch.UNREACHABLE) {
+            return Optional.empty();
+        }
+        int length = workspace.search.pathTo(target, workspace.path);
+        return Optional.of(new Path(toStationIds(workspace.path, length), distance));
+    }
+
+    @Override
+    public StationGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public PathSearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    private List<Long> toStationIds(final int[] path, final int length) {
+        List<Long> stationIds = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            stationIds.add(graph.stationIdAt(path[i]));
+        }
+        return stationIds;
+    }
+
+    private static class Workspace {
+        private final DijkstraSearch search;
+        private final int[] path;
+
+        private Workspace(final StationGraph graph) {
+            this.search = new DijkstraSearch(graph);
+            this.path = new int[graph.size()];
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 StationGraph 에 묶인 재사용 가능한 다익스트라 작업 공간
+ * 거리/이전 노드 배열은 탐색 세대(generation) 값으로 유효성을 판단하므로 매 탐색마다 초기화하지 않는다.
+ * 스레드 안전하지 않으므로 한 번에 한 스레드만 사용한다.
+ */
+public final class DijkstraSearch {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final StationGraph graph;
+    private final int[] distances;
+    private final int[] previous;
+    private final int[] reachedGeneration;
+    private final int[] settledGeneration;
+    private final int[] targetGeneration;
+    private final IntMinHeap heap;
+    private int generation;
+    private int settledCount;
+
+    public DijkstraSearch(final StationGraph graph) {
+        int size = graph.size();
+        this.graph = graph;
+        this.distances = new int[size];
+        this.previous = new int[size];
+        this.reachedGeneration = new int[size];
+        this.settledGeneration = new int[size];
+        this.targetGeneration = new int[size];
+        this.heap = new IntMinHeap(size);
+    }
+
+    /**
+     * source 에서 target 까지 탐색한다. target 이 -1 이면 도달 가능한 모든 노드를 확정한다.
+     *
+     * @return target 까지의 거리, 도달할 수 없으면 UNREACHABLE
+     */
+    public int search(final int source, final int target) {
+        start(source);
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            settle(node);
+            if (node == target) {
+                heap.clear();
+                return distances[node];
+            }
+            relax(node);
+        }
+        return target == NONE ? 0 : UNREACHABLE;
+    }
+
+    public void searchAll(final int source) {
+        search(source, NONE);
+    }
+
+    /**
+     * 하나의 탐색으로 여러 도착역까지의 거리를 구한다. 모든 도착역이 확정되면 바로 멈춘다.
+     * 그래프에 없는 도착역은 음수 인덱스로 넘기며 결과는 UNREACHABLE 이다.
+     */
+    public void searchMany(final int source, final int[] targets, final int[] result) {
+        start(source);
+        int remaining = 0;
+        for (int target : targets) {
+            if (target >= 0 && targetGeneration[target] != generation) {
+                targetGeneration[target] = generation;
+                remaining++;
+            }
+        }
+        while (!heap.isEmpty() && remaining > 0) {
+            int node = heap.poll();
+            settle(node);
+            if (targetGeneration[node] == generation) {
+                remaining--;
+            }
+            relax(node);
+        }
+        heap.clear();
+        for (int i = 0; i < targets.length; i++) {
+            result[i] = targets[i] >= 0 && isSettled(targets[i]) ? distances[targets[i]] : UNREACHABLE;
+        }
+    }
+
+    public int distanceTo(final int node) {
+        return reachedGeneration[node] == generation ? distances[node] : UNREACHABLE;
+    }
+
+    public boolean isSettled(final int node) {
+        return settledGeneration[node] == generation;
+    }
+
+    public int previousOf(final int node) {
+        return previous[node];
+    }
+
+    public int settledCount() {
+        return settledCount;
+    }
+
+    /**
+     * 마지막 탐색 결과로 source 부터 target 까지의 노드 인덱스를 채운다.
+     *
+     * @return 경로의 노드 수
+     */
+    public int pathTo(final int target, final int[] path) {
+        int length = 0;
+        for (int node = target; node != NONE; node = previous[node]) {
+            path[length++] = node;
+        }
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            int temp = path[i];
+            path[i] = path[j];
+            path[j] = temp;
+        }
+        return length;
+    }
+
+    private void start(final int source) {
+        if (++generation == 0) {
+            Arrays.fill(reachedGeneration, 0);
+            Arrays.fill(settledGeneration, 0);
+            Arrays.fill(targetGeneration, 0);
+            generation = 1;
+        }
+        settledCount = 0;
+        heap.clear();
+        reach(source, 0, NONE);
+    }
+
+    private void settle(final int node) {
+        settledGeneration[node] = generation;
+        settledCount++;
+    }
+
+    private void relax(final int node) {
+        int distance = distances[node];
+        for (int edge = graph.edgeStart(node), end = graph.edgeEnd(node); edge < end; edge++) {
+            int next = graph.target(edge);
+            if (settledGeneration[next] == generation) {
+                continue;
+            }
+            int candidate = distance + graph.weight(edge);
+            if (reachedGeneration[next] != generation || candidate < distances[next]) {
+                reach(next, candidate, node);
+            }
+        }
+    }
+
+    private void reach(final int node, final int distance, final int from) {
+        reachedGeneration[node] = generation;
+        distances[node] = distance;
+        previous[node] = from;
+        heap.push(node, distance);
+    }
+}
@@ -0,0 +1,45 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 출발역마다 한 번의 일대다 탐색으로 거리 행렬의 한 행을 구한다.
+ * 여러 스레드에서 동시에 행을 계산할 수 있도록 탐색 작업 공간은 계산기가 소유한 풀에서 빌려 쓴다.
+ */
+public final class DistanceMatrixCalculator {
+    public static final int UNREACHABLE = DijkstraSearch.UNREACHABLE;
+
+    private final StationGraph graph;
+    private final WorkspacePool<DijkstraSearch> searches;
+
+    public DistanceMatrixCalculator(final StationGraph graph) {
+        this.graph = graph;
+        this.searches = new WorkspacePool<>(() -> new DijkstraSearch(graph));
+    }
+
+    public int[] indexesOf(final List<Long> stationIds) {
+        return stationIds.stream()
+                         .mapToInt(graph::indexOf)
+                         .toArray();
+    }
+
+    /**
+     * @return targetIndexes 순서의 거리, 도달할 수 없거나 그래프에 없는 역은 UNREACHABLE
+     */
+    public int[] distancesFrom(final Long sourceId, final int[] targetIndexes) {
+        int[] row = new int[targetIndexes.length];
+        int source = graph.indexOf(sourceId);
+        if (source < 0) {
+            Arrays.fill(row, UNREACHABLE);
+            return row;
+        }
+        DijkstraSearch search = searches.acquire();
+        try {
+            search.searchMany(source, targetIndexes, row);
+        } finally {
+            searches.release(search);
+        }
+        return row;
+    }
+}
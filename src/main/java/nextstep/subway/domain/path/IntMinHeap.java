@@ -0,0 +1,100 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * 0..capacity-1 정수 노드를 int 우선순위로 관리하는 이진 힙
+ * 노드별 힙 위치를 기억하여 decrease-key 를 지원하며, 생성 이후에는 객체를 할당하지 않는다.
+ */
+public final class IntMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int[] nodes;
+    private final int[] keys;
+    private final int[] positions;
+    private int size;
+
+    public IntMinHeap(final int capacity) {
+        this.nodes = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(final int node) {
+        return positions[node] != ABSENT;
+    }
+
+    public int peekKey() {
+        return keys[0];
+    }
+
+    /**
+     * 없는 노드면 추가하고, 이미 있으면 더 작은 우선순위일 때만 갱신한다.
+     */
+    public void push(final int node, final int key) {
+        int position = positions[node];
+        if (position == ABSENT) {
+            position = size++;
+        } else if (keys[position] <= key) {
+            return;
+        }
+        siftUp(position, node, key);
+    }
+
+    public int poll() {
+        int min = nodes[0];
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            siftDown(0, nodes[size], keys[size]);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[nodes[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position, final int node, final int key) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(position, nodes[parent], keys[parent]);
+            position = parent;
+        }
+        place(position, node, key);
+    }
+
+    private void siftDown(int position, final int node, final int key) {
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(position, nodes[child], keys[child]);
+            position = child;
+        }
+        place(position, node, key);
+    }
+
+    private void place(final int position, final int node, final int key) {
+        nodes[position] = node;
+        keys[position] = key;
+        positions[node] = position;
+    }
+}
@@ -0,0 +1,331 @@
+package nextstep.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 출발역에서 도착역까지 역이 반복되지 않는 경로를 거리 순으로 k 개 찾는다. (Yen)
+ * 도착역을 뿌리로 하는 최단 경로 트리를 조회마다 한 번만 만들어 모든 분기(spur) 탐색이 공유한다.
+ * 트리 거리는 간선/역을 막은 그래프에서도 남은 거리의 하한이므로 분기 탐색의 A* 휴리스틱으로 쓰고,
+ * 확정한 역에서 트리를 따라가는 길이 막히지 않았다면 그 길이 곧 최단 분기 경로이므로 바로 탐색을 끝낸다.
+ */
+public final class KShortestPathFinder {
+    private static final int NONE = -1;
+    private static final int UNREACHABLE = DijkstraSearch.UNREACHABLE;
+    private static final Comparator<Candidate> SHORTEST_FIRST = Comparator.comparingInt(Candidate::distance)
+                                                                          .thenComparingInt(candidate -> candidate.nodes.length)
+                                                                          .thenComparing((a, b) -> Arrays.compare(a.nodes, b.nodes));
+
+    private final StationGraph graph;
+    private final WorkspacePool<Workspace> workspaces;
+
+    public KShortestPathFinder(final StationGraph graph) {
+        this.graph = graph;
+        this.workspaces = new WorkspacePool<>(() -> new Workspace(graph.size()));
+    }
+
+    public AlternativePaths find(final Long sourceId, final Long targetId, final int k, final SearchBudget budget) {
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        if (source < 0 || target < 0 || k < 1) {
+            return new AlternativePaths(List.of(), 0, 0, true);
+        }
+        Workspace workspace = workspaces.acquire();
+        try {
+            return workspace.find(source, target, k, budget.start());
+        } finally {
+            workspaces.release(workspace);
+        }
+    }
+
+    private static final class Candidate {
+        private final int[] nodes;
+        private final int[] prefixDistances;
+        private final int deviation;
+
+        private Candidate(final int[] nodes, final int[] prefixDistances, final int deviation) {
+            this.nodes = nodes;
+            this.prefixDistances = prefixDistances;
+            this.deviation = deviation;
+        }
+
+        private int distance() {
+            return prefixDistances[prefixDistances.length - 1];
+        }
+
+        private boolean hasRoot(final Candidate other, final int spurIndex) {
+            if (nodes.length <= spurIndex + 1) {
+                return false;
+            }
+            return Arrays.equals(nodes, 0, spurIndex + 1, other.nodes, 0, spurIndex + 1);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Arrays.equals(nodes, ((Candidate) o).nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(nodes);
+        }
+    }
+
+    private final class Workspace {
+        private final DijkstraSearch tree;
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] reachedGeneration;
+        private final int[] settledGeneration;
+        private final int[] blockedGeneration;
+        private final int[] checkedGeneration;
+        private final boolean[] treeUsable;
+        private final int[] stack;
+        private final IntMinHeap heap;
+        private int generation;
+        private int target;
+
+        private Workspace(final int size) {
+            this.tree = new DijkstraSearch(graph);
+            this.distances = new int[size];
+            this.previous = new int[size];
+            this.reachedGeneration = new int[size];
+            this.settledGeneration = new int[size];
+            this.blockedGeneration = new int[size];
+            this.checkedGeneration = new int[size];
+            this.treeUsable = new boolean[size];
+            this.stack = new int[size];
+            this.heap = new IntMinHeap(size);
+        }
+
+        private AlternativePaths find(final int source, final int target, final int k, final SearchBudget.Tracker tracker) {
+            this.target = target;
+            tree.searchAll(target);
+            if (tree.distanceTo(source) == UNREACHABLE) {
+                return new AlternativePaths(List.of(), 0, 0, true);
+            }
+
+            List<Candidate> accepted = new ArrayList<>();
+            PriorityQueue<Candidate> candidates = new PriorityQueue<>(SHORTEST_FIRST);
+            Set<Candidate> seen = new HashSet<>();
+            Candidate shortest = treePath(source);
+            accepted.add(shortest);
+            seen.add(shortest);
+            int explored = 1;
+            boolean complete = true;
+
+            search:
+            while (accepted.size() < k) {
+                Candidate last = accepted.get(accepted.size() - 1);
+                for (int spurIndex = last.deviation; spurIndex < last.nodes.length - 1; spurIndex++) {
+                    if (!tracker.hasRemaining()) {
+                        complete = false;
+                        break search;
+                    }
+                    Candidate candidate = spurPath(last, spurIndex, accepted, tracker);
+                    if (candidate == null && !tracker.hasRemaining()) {
+                        complete = false;
+                        break search;
+                    }
+                    if (candidate != null) {
+                        explored++;
+                        if (seen.add(candidate)) {
+                            candidates.add(candidate);
+                        }
+                    }
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                accepted.add(candidates.poll());
+            }
+            return new AlternativePaths(toPaths(accepted), explored, tracker.getExpansions(), complete);
+        }
+
+        /**
+         * last 의 spurIndex 번째 역까지를 그대로 두고, 같은 뿌리를 가진 확정 경로들이 다음으로 간 역을 막은 채 도착역까지의 최단 분기 경로를 찾는다.
+         *
+         * @return 분기 경로가 없거나 탐색 예산을 다 쓰면 null
+         */
+        private Candidate spurPath(final Candidate last, final int spurIndex, final List<Candidate> accepted,
+                                   final SearchBudget.Tracker tracker) {
+            int spur = last.nodes[spurIndex];
+            start();
+            for (int i = 0; i < spurIndex; i++) {
+                blockedGeneration[last.nodes[i]] = generation;
+            }
+            int[] blockedNext = accepted.stream()
+                                        .filter(path -> path.hasRoot(last, spurIndex))
+                                        .mapToInt(path -> path.nodes[spurIndex + 1])
+                                        .toArray();
+
+            reach(spur, 0, NONE);
+            while (!heap.isEmpty()) {
+                int node = heap.poll();
+                settledGeneration[node] = generation;
+                if (!tracker.expand()) {
+                    heap.clear();
+                    return null;
+                }
+                if (node == spur ? canFollowTreeFromSpur(spur, blockedNext) : canFollowTree(node, spur)) {
+                    heap.clear();
+                    return join(last, spurIndex, node);
+                }
+                relax(node, spur, blockedNext);
+            }
+            return null;
+        }
+
+        private void relax(final int node, final int spur, final int[] blockedNext) {
+            int distance = distances[node];
+            for (int edge = graph.edgeStart(node), end = graph.edgeEnd(node); edge < end; edge++) {
+                int next = graph.target(edge);
+                if (settledGeneration[next] == generation || blockedGeneration[next] == generation
+                    || node == spur && contains(blockedNext, next)) {
+                    continue;
+                }
+                int candidate = distance + graph.weight(edge);
+                if (reachedGeneration[next] != generation || candidate < distances[next]) {
+                    reach(next, candidate, node);
+                }
+            }
+        }
+
+        private void reach(final int node, final int distance, final int from) {
+            int remaining = tree.distanceTo(node);
+            if (remaining == UNREACHABLE) {
+                return;
+            }
+            reachedGeneration[node] = generation;
+            distances[node] = distance;
+            previous[node] = from;
+            heap.push(node, distance + remaining);
+        }
+
+        private boolean canFollowTreeFromSpur(final int spur, final int[] blockedNext) {
+            int next = tree.previousOf(spur);
+            return !contains(blockedNext, next) && canFollowTree(next, spur);
+        }
+
+        /**
+         * node 에서 트리를 따라 도착역까지 가는 길에 막힌 역이나 분기역이 없는지 확인한다.
+         * 확인한 결과는 이번 분기 탐색 동안 기억하여 같은 트리 구간을 다시 따라가지 않는다.
+         */
+        private boolean canFollowTree(final int node, final int spur) {
+            int depth = 0;
+            boolean usable;
+            for (int current = node; ; current = tree.previousOf(current)) {
+                if (current == target) {
+                    usable = true;
+                    break;
+                }
+                if (current == spur || blockedGeneration[current] == generation) {
+                    usable = false;
+                    break;
+                }
+                if (checkedGeneration[current] == generation) {
+                    usable = treeUsable[current];
+                    break;
+                }
+                stack[depth++] = current;
+            }
+            while (depth > 0) {
+                int current = stack[--depth];
+                checkedGeneration[current] = generation;
+                treeUsable[current] = usable;
+            }
+            return usable;
+        }
+
+        /**
+         * 뿌리 경로 + 분기역에서 joint 까지의 탐색 경로 + joint 에서 도착역까지의 트리 경로
+         */
+        private Candidate join(final Candidate last, final int spurIndex, final int joint) {
+            int rootDistance = last.prefixDistances[spurIndex];
+            int spurLength = 0;
+            for (int node = joint; node != NONE; node = previous[node]) {
+                spurLength++;
+            }
+            int treeLength = 0;
+            for (int node = joint; node != target; node = tree.previousOf(node)) {
+                treeLength++;
+            }
+
+            int length = spurIndex + spurLength + treeLength;
+            int[] nodes = Arrays.copyOf(last.nodes, length);
+            int[] prefixDistances = Arrays.copyOf(last.prefixDistances, length);
+            int index = spurIndex + spurLength - 1;
+            for (int node = joint; node != NONE; node = previous[node], index--) {
+                nodes[index] = node;
+                prefixDistances[index] = rootDistance + distances[node];
+            }
+            int jointDistance = rootDistance + distances[joint];
+            index = spurIndex + spurLength;
+            for (int node = tree.previousOf(joint); index < length; node = tree.previousOf(node), index++) {
+                nodes[index] = node;
+                prefixDistances[index] = jointDistance + tree.distanceTo(joint) - tree.distanceTo(node);
+            }
+            return new Candidate(nodes, prefixDistances, spurIndex);
+        }
+
+        private Candidate treePath(final int source) {
+            int length = 1;
+            for (int node = source; node != target; node = tree.previousOf(node)) {
+                length++;
+            }
+            int[] nodes = new int[length];
+            int[] prefixDistances = new int[length];
+            int total = tree.distanceTo(source);
+            int node = source;
+            for (int i = 0; i < length; i++) {
+                nodes[i] = node;
+                prefixDistances[i] = total - tree.distanceTo(node);
+                node = tree.previousOf(node);
+            }
+            return new Candidate(nodes, prefixDistances, 0);
+        }
+
+        private List<Path> toPaths(final List<Candidate> accepted) {
+            List<Path> paths = new ArrayList<>(accepted.size());
+            for (Candidate candidate : accepted) {
+                List<Long> stationIds = new ArrayList<>(candidate.nodes.length);
+                for (int node : candidate.nodes) {
+                    stationIds.add(graph.stationIdAt(node));
+                }
+                paths.add(new Path(stationIds, candidate.distance()));
+            }
+            return paths;
+        }
+
+        private void start() {
+            if (++generation == 0) {
+                Arrays.fill(reachedGeneration, 0);
+                Arrays.fill(settledGeneration, 0);
+                Arrays.fill(blockedGeneration, 0);
+                Arrays.fill(checkedGeneration, 0);
+                generation = 1;
+            }
+            heap.clear();
+        }
+
+        private boolean contains(final int[] nodes, final int node) {
+            for (int each : nodes) {
+                if (each == node) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
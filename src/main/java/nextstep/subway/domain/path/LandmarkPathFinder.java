@@ -0,0 +1,217 @@
+package nextstep.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 랜드마크 거리 기반 하한(ALT)으로 A* 탐색을 유도하는 경로 탐색기
+ * 좌표 없이 구간 거리만으로 동작한다. 랜드마크 L 에 대해 삼각 부등식으로 |d(L, t) - d(L, v)| <= d(v, t) 이므로
+ * 모든 랜드마크의 최댓값을 v 에서 t 까지의 하한으로 사용한다.
+ * 랜드마크는 이미 고른 랜드마크들에서 가장 먼 역을 차례로 고르는 방식(farthest selection)으로 정한다.
+ */
+public final class LandmarkPathFinder implements PathFinder {
+    private static final int NONE = -1;
+    private static final int UNREACHABLE = DijkstraSearch.UNREACHABLE;
+
+    private final StationGraph graph;
+    private final int[] landmarks;
+    private final int[][] landmarkDistances;
+    private final PathSearchStatistics statistics;
+    private final WorkspacePool<AStarSearch> searches;
+
+    private LandmarkPathFinder(final StationGraph graph, final int[] landmarks, final int[][] landmarkDistances,
+                               final PathSearchStatistics statistics) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.landmarkDistances = landmarkDistances;
+        this.statistics = statistics;
+        this.searches = new WorkspacePool<>(() -> new AStarSearch(graph.size()));
+    }
+
+    public static LandmarkPathFinder of(final StationGraph graph, final int landmarkCount) {
+        return of(graph, landmarkCount, new PathSearchStatistics());
+    }
+
+    public static LandmarkPathFinder of(final StationGraph graph, final int landmarkCount, final PathSearchStatistics statistics) {
+        int size = graph.size();
+        int count = Math.min(Math.max(landmarkCount, 1), size);
+        int[] landmarks = new int[count];
+        int[][] landmarkDistances = new int[count][size];
+        int[] nearest = new int[size];
+        Arrays.fill(nearest, UNREACHABLE);
+
+        DijkstraSearch search = new DijkstraSearch(graph);
+        int candidate = size == 0 ? NONE : farthestFrom(search, 0, size);
+        for (int i = 0; i < count; i++) {
+            landmarks[i] = candidate;
+            search.searchAll(candidate);
+            for (int node = 0; node < size; node++) {
+                int distance = search.distanceTo(node);
+                landmarkDistances[i][node] = distance;
+                nearest[node] = Math.min(nearest[node], distance);
+            }
+            candidate = farthest(nearest);
+        }
+        return new LandmarkPathFinder(graph, landmarks, landmarkDistances, statistics);
+    }
+
+    private static int farthestFrom(final DijkstraSearch search, final int source, final int size) {
+        search.searchAll(source);
+        int farthest = source;
+        for (int node = 0; node < size; node++) {
+            int distance = search.distanceTo(node);
+            if (distance != UNREACHABLE && distance > search.distanceTo(farthest)) {
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * 어떤 랜드마크에서도 도달할 수 없는 역(다른 연결 요소)이 있으면 그 역을 먼저 고른다.
+     */
+    private static int farthest(final int[] nearest) {
+        int farthest = 0;
+        for (int node = 1; node < nearest.length; node++) {
+            if (nearest[node] > nearest[farthest]) {
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+
+    @Override
+    public Optional<Path> find(final Long sourceId, final Long targetId) {
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        AStarSearch search = searches.acquire();
+        try {
+            int distance = search.search(source, target);
+            statistics.record(search.settledCount);
+            if (distance == UNREACHABLE) {
+                return Optional.empty();
+            }
+            return Optional.of(new Path(search.pathTo(target), distance));
+        } finally {
+            searches.release(search);
+        }
+    }
+
+    @Override
+    public StationGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public PathSearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    private int lowerBound(final int node, final int target) {
+        int bound = 0;
+        for (int[] distances : landmarkDistances) {
+            int toTarget = distances[target];
+            int toNode = distances[node];
+            if (toTarget == UNREACHABLE && toNode == UNREACHABLE) {
+                continue;
+            }
+            if (toTarget == UNREACHABLE || toNode == UNREACHABLE) {
+                return UNREACHABLE;
+            }
+            bound = Math.max(bound, Math.abs(toTarget - toNode));
+        }
+        return bound;
+    }
+
+    private final class AStarSearch {
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] reachedGeneration;
+        private final int[] settledGeneration;
+        private final IntMinHeap heap;
+        private int generation;
+        private int settledCount;
+
+        private AStarSearch(final int size) {
+            this.distances = new int[size];
+            this.previous = new int[size];
+            this.reachedGeneration = new int[size];
+            this.settledGeneration = new int[size];
+            this.heap = new IntMinHeap(size);
+        }
+
+        private int search(final int source, final int target) {
+            start();
+            if (lowerBound(source, target) == UNREACHABLE) {
+                return UNREACHABLE;
+            }
+            reach(source, 0, NONE, target);
+            while (!heap.isEmpty()) {
+                int node = heap.poll();
+                settledGeneration[node] = generation;
+                settledCount++;
+                if (node == target) {
+                    heap.clear();
+                    return distances[node];
+                }
+                relax(node, target);
+            }
+            return UNREACHABLE;
+        }
+
+        private void relax(final int node, final int target) {
+            int distance = distances[node];
+            for (int edge = graph.edgeStart(node), end = graph.edgeEnd(node); edge < end; edge++) {
+                int next = graph.target(edge);
+                if (settledGeneration[next] == generation) {
+                    continue;
+                }
+                int candidate = distance + graph.weight(edge);
+                if (reachedGeneration[next] != generation || candidate < distances[next]) {
+                    reach(next, candidate, node, target);
+                }
+            }
+        }
+
+        private void reach(final int node, final int distance, final int from, final int target) {
+            int bound = lowerBound(node, target);
+            if (bound == UNREACHABLE) {
+                return;
+            }
+            reachedGeneration[node] = generation;
+            distances[node] = distance;
+            previous[node] = from;
+            heap.push(node, distance + bound);
+        }
+
+        private void start() {
+            if (++generation == 0) {
+                Arrays.fill(reachedGeneration, 0);
+                Arrays.fill(settledGeneration, 0);
+                generation = 1;
+            }
+            settledCount = 0;
+            heap.clear();
+        }
+
+        private List<Long> pathTo(final int target) {
+            List<Long> stationIds = new ArrayList<>();
+            for (int node = target; node != NONE; node = previous[node]) {
+                stationIds.add(graph.stationIdAt(node));
+            }
+            Collections.reverse(stationIds);
+            return stationIds;
+        }
+    }
+}
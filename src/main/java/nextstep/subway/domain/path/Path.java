@@ -0,0 +1,16 @@
+package nextstep.subway.domain.path;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class Path {
+    private final List<Long> stationIds;
+    private final int distance;
+
+    public Path(final List<Long> stationIds, final int distance) {
+        this.stationIds = List.copyOf(stationIds);
+        this.distance = distance;
+    }
+}
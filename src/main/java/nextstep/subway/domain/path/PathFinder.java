@@ -0,0 +1,22 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Section;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 전체 구간으로 한 번 만들어 두고 재사용하는 최단 경로 탐색기
+ * 구현체는 불변이며 여러 스레드에서 동시에 조회할 수 있어야 한다.
+ */
+public interface PathFinder {
+    Optional<Path> find(Long sourceId, Long targetId);
+
+    StationGraph getGraph();
+
+    PathSearchStatistics getStatistics();
+
+    static PathFinder of(final List<Section> sections) {
+        return new DijkstraPathFinder(StationGraph.of(sections));
+    }
+}
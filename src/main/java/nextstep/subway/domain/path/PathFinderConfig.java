@@ -0,0 +1,25 @@
+package nextstep.subway.domain.path;
+
+public final class PathFinderConfig {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    private final PathSearchStatistics statistics;
+    private final int landmarkCount;
+
+    public PathFinderConfig(final PathSearchStatistics statistics, final int landmarkCount) {
+        this.statistics = statistics;
+        this.landmarkCount = landmarkCount;
+    }
+
+    public static PathFinderConfig defaults() {
+        return new PathFinderConfig(new PathSearchStatistics(), DEFAULT_LANDMARK_COUNT);
+    }
+
+    public PathSearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+}
@@ -0,0 +1,34 @@
+package nextstep.subway.domain.path;
+
+public enum PathFinderType {
+    DIJKSTRA {
+        @Override
+        public PathFinder create(final StationGraph graph, final PathFinderConfig config) {
+            return new DijkstraPathFinder(graph, config.getStatistics());
+        }
+    },
+    ALL_PAIRS {
+        @Override
+        public PathFinder create(final StationGraph graph, final PathFinderConfig config) {
+            return AllPairsPathFinder.of(graph, config.getStatistics());
+        }
+    },
+    CONTRACTION_HIERARCHY {
+        @Override
+        public PathFinder create(final StationGraph graph, final PathFinderConfig config) {
+            return ContractionHierarchyPathFinder.of(graph, config.getStatistics());
+        }
+    },
+    ALT {
+        @Override
+        public PathFinder create(final StationGraph graph, final PathFinderConfig config) {
+            return LandmarkPathFinder.of(graph, config.getLandmarkCount(), config.getStatistics());
+        }
+    };
+
+    public abstract PathFinder create(StationGraph graph, PathFinderConfig config);
+
+    public PathFinder create(final StationGraph graph) {
+        return create(graph, PathFinderConfig.defaults());
+    }
+}
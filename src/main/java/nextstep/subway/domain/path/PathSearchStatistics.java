@@ -0,0 +1,30 @@
+package nextstep.subway.domain.path;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로 조회 횟수와 조회마다 확정(settle)한 노드 수의 누적값
+ * 스냅샷이 교체되어도 값이 이어지도록 탐색기 밖에서 만들어 넘겨준다.
+ */
+public final class PathSearchStatistics {
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder settledNodes = new LongAdder();
+
+    public void record(final int settled) {
+        queries.increment();
+        settledNodes.add(settled);
+    }
+
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    public long getSettledNodes() {
+        return settledNodes.sum();
+    }
+
+    public double getAverageSettledNodes() {
+        long count = queries.sum();
+        return count == 0 ? 0 : (double) settledNodes.sum() / count;
+    }
+}
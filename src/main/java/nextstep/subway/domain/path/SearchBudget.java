@@ -0,0 +1,64 @@
+package nextstep.subway.domain.path;
+
+import java.time.Duration;
+
+/**
+ * 한 번의 조회에 허용하는 탐색량
+ * 확정(settle)한 노드 수와 경과 시간 중 하나라도 넘으면 탐색을 멈춘다.
+ */
+public final class SearchBudget {
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final int maxExpansions;
+    private final long timeoutNanos;
+
+    private SearchBudget(final int maxExpansions, final long timeoutNanos) {
+        this.maxExpansions = maxExpansions;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    public static SearchBudget of(final int maxExpansions, final Duration timeout) {
+        return new SearchBudget(maxExpansions, timeout.toNanos());
+    }
+
+    public static SearchBudget unlimited() {
+        return new SearchBudget(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    Tracker start() {
+        return new Tracker();
+    }
+
+    /**
+     * 조회 한 번 동안의 사용량, System.nanoTime 호출을 줄이기 위해 시간은 일정 확장 수마다 확인한다.
+     */
+    final class Tracker {
+        private final long startedAt = System.nanoTime();
+        private int expansions;
+        private boolean exhausted;
+
+        boolean expand() {
+            expansions++;
+            if (expansions > maxExpansions
+                || expansions % CLOCK_CHECK_INTERVAL == 0 && isTimedOut()) {
+                exhausted = true;
+            }
+            return !exhausted;
+        }
+
+        boolean hasRemaining() {
+            if (!exhausted && isTimedOut()) {
+                exhausted = true;
+            }
+            return !exhausted;
+        }
+
+        int getExpansions() {
+            return expansions;
+        }
+
+        private boolean isTimedOut() {
+            return System.nanoTime() - startedAt > timeoutNanos;
+        }
+    }
+}
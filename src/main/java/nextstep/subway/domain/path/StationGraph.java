@@ -0,0 +1,131 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Section;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 구간 목록으로 만든 무방향 역 그래프 (compressed sparse row)
+ * 역은 식별자 오름차순의 0..n-1 정수 인덱스로 바뀌고,
+ * 인덱스 v 의 간선은 targets/weights 의 [offsets[v], offsets[v + 1]) 구간에 놓인다.
+ */
+public final class StationGraph {
+    private final long[] stationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private StationGraph(final long[] stationIds, final int[] offsets, final int[] targets, final int[] weights) {
+        this.stationIds = stationIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static StationGraph of(final List<Section> sections) {
+        int sectionCount = sections.size();
+        long[] ups = new long[sectionCount];
+        long[] downs = new long[sectionCount];
+        int[] distances = new int[sectionCount];
+        for (int i = 0; i < sectionCount; i++) {
+            Section section = sections.get(i);
+            ups[i] = section.getUpStation().getId();
+            downs[i] = section.getDownStation().getId();
+            distances[i] = section.getDistance();
+        }
+        return of(ups, downs, distances);
+    }
+
+    public static StationGraph of(final long[] ups, final long[] downs, final int[] distances) {
+        long[] stationIds = distinctSorted(ups, downs);
+        int size = stationIds.length;
+        int edgeCount = ups.length;
+
+        int[] upIndexes = new int[edgeCount];
+        int[] downIndexes = new int[edgeCount];
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            upIndexes[i] = Arrays.binarySearch(stationIds, ups[i]);
+            downIndexes[i] = Arrays.binarySearch(stationIds, downs[i]);
+            offsets[upIndexes[i] + 1]++;
+            offsets[downIndexes[i] + 1]++;
+        }
+        for (int v = 0; v < size; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, size);
+        int[] targets = new int[edgeCount * 2];
+        int[] weights = new int[edgeCount * 2];
+        for (int i = 0; i < edgeCount; i++) {
+            int forward = cursor[upIndexes[i]]++;
+            targets[forward] = downIndexes[i];
+            weights[forward] = distances[i];
+            int backward = cursor[downIndexes[i]]++;
+            targets[backward] = upIndexes[i];
+            weights[backward] = distances[i];
+        }
+        return new StationGraph(stationIds, offsets, targets, weights);
+    }
+
+    private static long[] distinctSorted(final long[] ups, final long[] downs) {
+        long[] all = new long[ups.length + downs.length];
+        System.arraycopy(ups, 0, all, 0, ups.length);
+        System.arraycopy(downs, 0, all, ups.length, downs.length);
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[distinct++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    /**
+     * 역과 간선 구성이 모두 같으면 전처리 결과를 그대로 재사용할 수 있다.
+     */
+    public boolean hasSameTopology(final StationGraph other) {
+        return Arrays.equals(stationIds, other.stationIds)
+               && Arrays.equals(offsets, other.offsets)
+               && Arrays.equals(targets, other.targets)
+               && Arrays.equals(weights, other.weights);
+    }
+
+    public int size() {
+        return stationIds.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return 그래프에 없는 역이면 -1
+     */
+    public int indexOf(final long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index < 0 ? -1 : index;
+    }
+
+    public long stationIdAt(final int index) {
+        return stationIds[index];
+    }
+
+    public int edgeStart(final int index) {
+        return offsets[index];
+    }
+
+    public int edgeEnd(final int index) {
+        return offsets[index + 1];
+    }
+
+    public int target(final int edge) {
+        return targets[edge];
+    }
+
+    public int weight(final int edge) {
+        return weights[edge];
+    }
+}
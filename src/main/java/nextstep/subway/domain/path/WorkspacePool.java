@@ -0,0 +1,37 @@
+package nextstep.subway.domain.path;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 탐색기가 소유하는 크기 제한 작업 공간 풀
+ * 비어 있으면 새로 만들고, 가득 차 있으면 돌려받은 작업 공간을 버린다.
+ * 남아 있는 작업 공간은 코어 수를 넘지 않으며 탐색기(스냅숏)와 함께 수거된다.
+ */
+final class WorkspacePool<T> {
+    private final BlockingQueue<T> idle;
+    private final Supplier<T> factory;
+
+    WorkspacePool(final Supplier<T> factory) {
+        this(factory, Runtime.getRuntime().availableProcessors());
+    }
+
+    WorkspacePool(final Supplier<T> factory, final int capacity) {
+        this.idle = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.factory = factory;
+    }
+
+    T acquire() {
+        T workspace = idle.poll();
+        return workspace == null ? factory.get() : workspace;
+    }
+
+    void release(final T workspace) {
+        idle.offer(workspace);
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+}
@@ -11,18 +11,25 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    /**
+     * 오류도 200 으로 응답하므로 접근 로그에서 오류를 가려낼 수 있도록 응답 코드를 요청 속성으로 남긴다.
+     */
+    public static final String RESPONSE_CODE_ATTRIBUTE = "subway.responseCode";
+
     /**
      * 비즈니스 로직 exception 처리
      */
     @ExceptionHandler(value = {CustomException.class})
-    public ResponseEntity<Object> handleCustomException(CustomException ex) {
+    public ResponseEntity<Object> handleCustomException(CustomException ex, HttpServletRequest request) {
         ResponseCode responseCode = ex.getResponseCode();
+        markResponseCode(request, responseCode);
         CommonResponse<Object> response = new CommonResponse<>(responseCode);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -31,7 +38,8 @@ public class GlobalExceptionHandler {
      * 파라미터 유효성관련 exception 처리
      */
     @ExceptionHandler(value = {MethodArgumentNotValidException.class})
-    public ResponseEntity<Object> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+    public ResponseEntity<Object> handleMethodArgumentNotValidException(MethodArgumentNotValidException e, HttpServletRequest request) {
+        markResponseCode(request, CommonCode.PARAM_INVALID);
         List<String> fieldErrorMessage = getFieldErrorMessage(e.getFieldErrors());
         CommonResponse<Object> response = new CommonResponse<>(CommonCode.PARAM_INVALID, fieldErrorMessage);
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -41,11 +49,16 @@ public class GlobalExceptionHandler {
      * 알 수 없는 exception 처리
      */
     @ExceptionHandler(value = {Exception.class})
-    public ResponseEntity<Object> handleException(Exception ex) {
+    public ResponseEntity<Object> handleException(Exception ex, HttpServletRequest request) {
         log.error("--- 알 수 없는 오류 감지.  ", ex);
+        markResponseCode(request, CommonCode.ETC);
         return ResponseEntity.ok(new CommonResponse<>(CommonCode.ETC));
     }
 
+    private void markResponseCode(HttpServletRequest request, ResponseCode responseCode) {
+        request.setAttribute(RESPONSE_CODE_ATTRIBUTE, String.valueOf(responseCode.getCode()));
+    }
+
     private List<String> getFieldErrorMessage(List<FieldError> fieldErrors) {
         List<String> errors = new ArrayList<>();
         for (FieldError error : fieldErrors) {
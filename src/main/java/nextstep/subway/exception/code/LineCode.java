@@ -5,7 +5,8 @@ import lombok.Getter;
 @Getter
 public enum LineCode implements ResponseCode {
     LINE_NOT_FOUND(2000, "노선이 존재하지 않습니다."),
-    LINE_STATION_DUPLICATE(2001, "노선에 이미 존재하는 역입니다.");
+    LINE_STATION_DUPLICATE(2001, "노선에 이미 존재하는 역입니다."),
+    LINE_CONCURRENT_MODIFICATION(2002, "다른 요청이 노선을 편집하고 있습니다. 잠시 후 다시 시도해 주세요.");
 
     private final int code;
 
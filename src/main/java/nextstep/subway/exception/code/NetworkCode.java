@@ -0,0 +1,20 @@
+package nextstep.subway.exception.code;
+
+import lombok.Getter;
+
+@Getter
+public enum NetworkCode implements ResponseCode {
+    NETWORK_STATION_DUPLICATE(6000, "가져올 역 이름이 중복되었습니다."),
+    NETWORK_STATION_NOT_FOUND(6001, "가져올 역 목록에 없는 역입니다."),
+    NETWORK_SECTION_NOT_CONNECTED(6002, "노선의 구간이 순서대로 이어지지 않습니다."),
+    NETWORK_STATION_ALREADY_EXISTS(6003, "이미 등록된 역 이름입니다.");
+
+    private final int code;
+
+    private final String message;
+
+    NetworkCode(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
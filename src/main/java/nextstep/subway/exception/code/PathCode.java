@@ -0,0 +1,18 @@
+package nextstep.subway.exception.code;
+
+import lombok.Getter;
+
+@Getter
+public enum PathCode implements ResponseCode {
+    PATH_SAME_STATION(5000, "출발역과 도착역이 같습니다."),
+    PATH_NOT_FOUND(5001, "출발역과 도착역이 연결되어 있지 않습니다.");
+
+    private final int code;
+
+    private final String message;
+
+    PathCode(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
@@ -0,0 +1,28 @@
+package nextstep.subway.querycount;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@ConditionalOnProperty(name = "subway.query-count.enabled", havingValue = "true")
+@Configuration
+public class QueryCountConfig {
+    @Bean
+    public static QueryCountDataSourcePostProcessor queryCountDataSourcePostProcessor() {
+        return new QueryCountDataSourcePostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            @Value("${subway.query-count.header-enabled:false}") boolean headerEnabled,
+            @Value("${subway.query-count.statement-budget:10}") int statementBudget,
+            @Value("${subway.query-count.repeat-threshold:5}") int repeatThreshold) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(headerEnabled, statementBudget, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
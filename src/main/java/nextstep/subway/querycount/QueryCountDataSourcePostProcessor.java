@@ -0,0 +1,28 @@
+package nextstep.subway.querycount;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * 데이터소스를 SQL 실행을 세는 프록시로 감싼다.
+ * 읽은 행 수를 세려면 ResultSet 도 프록시로 감싸야 하므로 행마다 호출 비용이 조금 늘어난다.
+ */
+public class QueryCountDataSourcePostProcessor implements BeanPostProcessor {
+    private final QueryCountListener listener = new QueryCountListener();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create((DataSource) bean)
+                                     .name(beanName)
+                                     .listener(listener)
+                                     .methodListener(listener)
+                                     .proxyResultSet()
+                                     .build();
+    }
+}
@@ -0,0 +1,102 @@
+package nextstep.subway.querycount;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청마다 실행한 SQL 문과 행 수를 세어, 예산을 넘거나 같은 SQL 이 반복되면(N+1 의심) 경고를 남긴다.
+ * subway.query-count.enabled 일 때만 등록된다(dev 프로필, 인수 테스트). headerEnabled 이면 응답 헤더로도 내보낸다. 헤더는 응답이 커밋되기 전에 써야 하므로 본문을 쓰기 시작할 때의 값이다.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String ROWS_READ_HEADER = "X-Query-Rows-Read";
+    public static final String ROWS_UPDATED_HEADER = "X-Query-Rows-Updated";
+
+    private final boolean headerEnabled;
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    public QueryCountFilter(boolean headerEnabled, int statementBudget, int repeatThreshold) {
+        this.headerEnabled = headerEnabled;
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryCount count = RequestQueryCount.start();
+        QueryCountHeaderResponse headerResponse = headerEnabled ? new QueryCountHeaderResponse(response, count) : null;
+        try {
+            filterChain.doFilter(request, headerResponse == null ? response : headerResponse);
+        } finally {
+            RequestQueryCount.clear();
+            if (headerResponse != null) {
+                headerResponse.writeHeaders();
+            }
+            report(request, count);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryCount count) {
+        if (count.getStatements() > statementBudget) {
+            log.warn("SQL 예산 초과 {} {} : statements={} (budget {}), rowsRead={}, rowsUpdated={}",
+                     request.getMethod(), request.getRequestURI(), count.getStatements(), statementBudget,
+                     count.getRowsRead(), count.getRowsUpdated());
+        }
+        count.mostRepeated()
+             .filter(repeated -> repeated.getValue() >= repeatThreshold)
+             .ifPresent(repeated -> log.warn("N+1 의심 {} {} : {}회 반복 - {}",
+                                             request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey()));
+        log.debug("{} {} : statements={}, rowsRead={}, rowsUpdated={}", request.getMethod(), request.getRequestURI(),
+                  count.getStatements(), count.getRowsRead(), count.getRowsUpdated());
+    }
+
+    private static class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+        private final RequestQueryCount count;
+        private boolean written;
+
+        QueryCountHeaderResponse(HttpServletResponse response, RequestQueryCount count) {
+            super(response);
+            this.count = count;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(count.getStatements()));
+            setHeader(ROWS_READ_HEADER, String.valueOf(count.getRowsRead()));
+            setHeader(ROWS_UPDATED_HEADER, String.valueOf(count.getRowsUpdated()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package nextstep.subway.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 프록시 데이터소스에서 실행된 SQL 을 현재 요청의 RequestQueryCount 에 기록한다.
+ * 읽은 행은 ResultSet.next() 가 true 를 돌려준 횟수로, 바꾼 행은 executeUpdate/executeBatch 의 결과로 센다.
+ * 배치는 SQL 문 하나로 센다.
+ */
+public class QueryCountListener implements QueryExecutionListener, MethodExecutionListener {
+    private static final String NEXT = "next";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryCount.current().ifPresent(count -> {
+            for (QueryInfo queryInfo : queryInfoList) {
+                count.recordStatement(queryInfo.getQuery());
+            }
+            count.recordRowsUpdated(updatedRows(execInfo.getResult()));
+        });
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && NEXT.equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            RequestQueryCount.current().ifPresent(count -> count.recordRowsRead(1));
+        }
+    }
+
+    private long updatedRows(Object result) {
+        if (result instanceof Integer) {
+            return Math.max(0, (Integer) result);
+        }
+        if (result instanceof int[]) {
+            long rows = 0;
+            for (int updated : (int[]) result) {
+                rows += Math.max(0, updated);
+            }
+            return rows;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,60 @@
+package nextstep.subway.querycount;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 하나가 실행한 SQL 문과 읽고/바꾼 행 수
+ * 요청을 처리하는 스레드에 묶이므로, 다른 스레드(비동기 응답, 이벤트 리스너 스레드 등)에서 실행한 SQL 은 세지 않는다.
+ */
+@Getter
+public class RequestQueryCount {
+    private static final ThreadLocal<RequestQueryCount> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rowsRead;
+    private long rowsUpdated;
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    public static RequestQueryCount start() {
+        RequestQueryCount count = new RequestQueryCount();
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static Optional<RequestQueryCount> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRowsRead(long rows) {
+        rowsRead += rows;
+    }
+
+    void recordRowsUpdated(long rows) {
+        rowsUpdated += rows;
+    }
+
+    /**
+     * 같은 SQL 이 가장 많이 반복된 횟수, N+1 을 의심할 근거가 된다.
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return executions.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+
+    public Map<String, Integer> getExecutions() {
+        return Collections.unmodifiableMap(executions);
+    }
+}
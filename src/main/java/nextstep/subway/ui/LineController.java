@@ -1,11 +1,15 @@
 package nextstep.subway.ui;
 
 import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.LineEditExecutor;
 import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.NetworkVersion;
 import nextstep.subway.applicaion.SectionService;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.PageResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -26,6 +31,8 @@ import java.util.List;
 public class LineController {
     private final LineService lineService;
     private final SectionService sectionService;
+    private final NetworkVersion networkVersion;
+    private final LineEditExecutor lineEditExecutor;
 
     @PostMapping
     public ResponseEntity<LineResponse> createLine(@RequestBody LineRequest lineRequest) {
@@ -33,39 +40,66 @@ public class LineController {
         return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
     }
 
+    /**
+     * 노선도 버전이 그대로면 조회 없이 304 로 응답한다. 버전을 먼저 읽어야 응답 내용보다 새 ETag 가 나가지 않는다.
+     * 본문은 노선별로 직렬화해 둔 JSON 을 그대로 쓴다.
+     */
     @GetMapping
-    public ResponseEntity<List<LineResponse>> showLines() {
-        List<LineResponse> responses = lineService.showLines();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<byte[]> showLines(WebRequest webRequest) {
+        String eTag = networkVersion.getLinesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(lineService.showLinesJson());
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<PageResponse<LineResponse>> showLines(@RequestParam(defaultValue = "0") Long after,
+                                                                @RequestParam int size,
+                                                                WebRequest webRequest) {
+        String eTag = networkVersion.getLinesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(lineService.showLines(after, size));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> getLine(@PathVariable Long id) {
-        LineResponse lineResponse = lineService.findById(id);
-        return ResponseEntity.ok().body(lineResponse);
+    public ResponseEntity<byte[]> getLine(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = networkVersion.getLinesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(lineService.findJsonById(id));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateLine(@PathVariable Long id, @RequestBody LineRequest lineRequest) {
-        lineService.updateLine(id, lineRequest);
+        lineEditExecutor.execute(id, () -> lineService.updateLine(id, lineRequest));
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> updateLine(@PathVariable Long id) {
-        lineService.deleteLine(id);
+        lineEditExecutor.execute(id, () -> lineService.deleteLine(id));
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{lineId}/sections")
     public ResponseEntity<Void> addSection(@PathVariable Long lineId, @RequestBody SectionRequest sectionRequest) {
-        sectionService.addSection(lineId, sectionRequest);
+        lineEditExecutor.execute(lineId, () -> sectionService.addSection(lineId, sectionRequest));
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{lineId}/sections/bulk")
+    public ResponseEntity<Void> addSections(@PathVariable Long lineId, @RequestBody List<SectionRequest> sectionRequests) {
+        lineEditExecutor.execute(lineId, () -> sectionService.addSections(lineId, sectionRequests));
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{lineId}/sections")
     public ResponseEntity<Void> deleteSection(@PathVariable Long lineId, @RequestParam Long stationId) {
-        sectionService.deleteSection(lineId, stationId);
+        lineEditExecutor.execute(lineId, () -> sectionService.deleteSection(lineId, stationId));
         return ResponseEntity.ok().build();
     }
 }
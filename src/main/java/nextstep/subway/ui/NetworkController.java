@@ -0,0 +1,35 @@
+package nextstep.subway.ui;
+
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.NetworkService;
+import nextstep.subway.applicaion.dto.NetworkImportRequest;
+import nextstep.subway.applicaion.dto.NetworkImportResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/network")
+public class NetworkController {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final NetworkService networkService;
+
+    @PostMapping("/import")
+    public ResponseEntity<NetworkImportResponse> importNetwork(@RequestBody NetworkImportRequest request) {
+        return ResponseEntity.ok().body(networkService.importNetwork(request));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNetwork() {
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .body(networkService::exportNetwork);
+    }
+}
@@ -0,0 +1,99 @@
+package nextstep.subway.ui;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.DistanceMatrix;
+import nextstep.subway.applicaion.DistanceMatrixService;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.dto.AlternativePathsResponse;
+import nextstep.subway.applicaion.dto.DistanceMatrixRequest;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.PathStatisticsResponse;
+import nextstep.subway.domain.path.DistanceMatrixCalculator;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/paths")
+public class PathController {
+    private final PathService pathService;
+    private final DistanceMatrixService distanceMatrixService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target));
+    }
+
+    @GetMapping("/alternatives")
+    public ResponseEntity<AlternativePathsResponse> findAlternativePaths(@RequestParam Long source,
+                                                                         @RequestParam Long target,
+                                                                         @RequestParam(defaultValue = "3") int k,
+                                                                         @RequestParam(required = false) Integer maxExpansions,
+                                                                         @RequestParam(required = false) Long timeoutMillis) {
+        Duration timeout = timeoutMillis == null ? null : Duration.ofMillis(timeoutMillis);
+        return ResponseEntity.ok().body(pathService.findAlternativePaths(source, target, k, maxExpansions, timeout));
+    }
+
+    /**
+     * 행렬 전체를 메모리에 올리지 않도록 출발역별 행이 계산되는 대로 응답에 써 내려간다.
+     */
+    @PostMapping("/matrix")
+    public ResponseEntity<StreamingResponseBody> findDistanceMatrix(@RequestBody DistanceMatrixRequest request) {
+        DistanceMatrix matrix = distanceMatrixService.findDistanceMatrix(request);
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(outputStream -> {
+                                 try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                                     writeDistanceMatrix(generator, matrix);
+                                 }
+                             });
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<PathStatisticsResponse> showStatistics() {
+        return ResponseEntity.ok().body(pathService.getStatistics());
+    }
+
+    private void writeDistanceMatrix(JsonGenerator generator, DistanceMatrix matrix) throws IOException {
+        generator.writeStartObject();
+        writeIds(generator, "sourceIds", matrix.getSourceIds());
+        writeIds(generator, "targetIds", matrix.getTargetIds());
+        generator.writeArrayFieldStart("distances");
+        matrix.forEachRow((sourceId, distances) -> {
+            generator.writeStartArray();
+            for (int distance : distances) {
+                if (distance == DistanceMatrixCalculator.UNREACHABLE) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(distance);
+                }
+            }
+            generator.writeEndArray();
+            generator.flush();
+        });
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeIds(JsonGenerator generator, String fieldName, List<Long> ids) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Long id : ids) {
+            generator.writeNumber(id);
+        }
+        generator.writeEndArray();
+    }
+}
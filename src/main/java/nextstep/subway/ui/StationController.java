@@ -1,17 +1,21 @@
 package nextstep.subway.ui;
 
 import lombok.RequiredArgsConstructor;
+import nextstep.subway.applicaion.NetworkVersion;
 import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.PageResponse;
+import nextstep.subway.applicaion.dto.StationCacheStatisticsResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -20,6 +24,7 @@ import java.util.List;
 @RestController
 public class StationController {
     private final StationService stationService;
+    private final NetworkVersion networkVersion;
 
     @PostMapping("/stations")
     public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
@@ -27,9 +32,29 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
-    @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    @GetMapping("/stations")
+    public ResponseEntity<List<StationResponse>> showStations(WebRequest webRequest) {
+        String eTag = networkVersion.getStationsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(stationService.findAllStations());
+    }
+
+    @GetMapping(value = "/stations", params = "size")
+    public ResponseEntity<PageResponse<StationResponse>> showStations(@RequestParam(defaultValue = "0") Long after,
+                                                                      @RequestParam int size,
+                                                                      WebRequest webRequest) {
+        String eTag = networkVersion.getStationsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(stationService.findStations(after, size));
+    }
+
+    @GetMapping("/stations/cache/statistics")
+    public ResponseEntity<StationCacheStatisticsResponse> showCacheStatistics() {
+        return ResponseEntity.ok().body(stationService.getCacheStatistics());
     }
 
     @DeleteMapping("/stations/{id}")
@@ -0,0 +1,36 @@
+package nextstep.subway.ui.accesslog;
+
+import ch.qos.logback.access.AccessConstants;
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+import lombok.Setter;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 접근 로그를 고정 크기 큐에 담고 별도 스레드에서 출력한다.
+ * 요청/응답 객체는 응답이 끝나면 Tomcat 이 재사용하므로 큐에 담기 전에 필요한 값을 모두 복사해 둔다.
+ * 본문은 bodySampler 가 고른 로그만 복사하고, 고른 로그에는 BodySamplingFilter 가 읽을 표시를 남긴다.
+ * neverBlock 이면 큐가 가득 찼을 때 요청 스레드를 막지 않고 로그를 버린다.
+ */
+@Setter
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+    public static final String BODY_SAMPLED_ATTRIBUTE = "subway.accessLog.bodySampled";
+    public static final String BODY_SAMPLED = "true";
+
+    private BodySampler bodySampler;
+
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        HttpServletRequest request = event.getRequest();
+        if (request != null) {
+            if (bodySampler != null && bodySampler.sample(event)) {
+                request.setAttribute(BODY_SAMPLED_ATTRIBUTE, BODY_SAMPLED);
+            } else {
+                request.removeAttribute(AccessConstants.LB_INPUT_BUFFER);
+                request.removeAttribute(AccessConstants.LB_OUTPUT_BUFFER);
+            }
+        }
+        event.prepareForDeferredProcessing();
+    }
+}
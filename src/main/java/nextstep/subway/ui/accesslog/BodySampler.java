@@ -0,0 +1,32 @@
+package nextstep.subway.ui.accesslog;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import lombok.Setter;
+import nextstep.subway.exception.GlobalExceptionHandler;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 전체 요청/응답을 남길 접근 로그를 고른다.
+ * 오류 응답은 모두 남기고(errors), 나머지는 sampleRate 비율만큼 무작위로 남긴다.
+ * 비즈니스 오류는 200 으로 응답하므로 GlobalExceptionHandler 가 남긴 응답 코드 속성으로도 오류를 판단한다.
+ */
+@Setter
+public class BodySampler {
+    private static final int ERROR_STATUS = 400;
+
+    private boolean errors = true;
+    private double sampleRate;
+
+    public boolean sample(IAccessEvent event) {
+        if (errors && isError(event)) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private boolean isError(IAccessEvent event) {
+        return event.getStatusCode() >= ERROR_STATUS
+                || !IAccessEvent.NA.equals(event.getAttribute(GlobalExceptionHandler.RESPONSE_CODE_ATTRIBUTE));
+    }
+}
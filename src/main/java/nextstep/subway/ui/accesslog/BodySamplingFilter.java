@@ -0,0 +1,18 @@
+package nextstep.subway.ui.accesslog;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * AsyncAccessAppender 가 요청 스레드에서 표본으로 고른 접근 로그만 통과시킨다.
+ */
+public class BodySamplingFilter extends Filter<IAccessEvent> {
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (AsyncAccessAppender.BODY_SAMPLED.equals(event.getAttribute(AsyncAccessAppender.BODY_SAMPLED_ATTRIBUTE))) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
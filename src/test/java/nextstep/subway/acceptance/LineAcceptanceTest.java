@@ -6,6 +6,7 @@ import io.restassured.response.Response;
 import nextstep.subway.acceptance.support.AcceptanceTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -13,8 +14,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_목록_페이지_조회_요청;
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_생성_요청;
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_조회_요청;
+import static nextstep.subway.acceptance.support.QueryCountSteps.실행된_쿼리_수;
+import static nextstep.subway.acceptance.support.StationSteps.지하철역_생성_요청후_식별자_반환;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("지하철 노선 관리 기능")
@@ -56,6 +60,94 @@ class LineAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getList("name")).contains("2호선", "3호선");
     }
 
+    /**
+     * Given 구간이 있는 지하철 노선 5개를 생성하고
+     * When 지하철 노선 목록을 조회하면
+     * Then 노선 수와 관계없이 쿼리 3번 이하로 조회한다
+     */
+    @DisplayName("지하철 노선 목록 조회 쿼리 수")
+    @Test
+    void getLinesQueryCount() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Map<String, String> params = new HashMap<>();
+            params.put("name", i + "호선");
+            params.put("color", "green");
+            params.put("upStationId", 지하철역_생성_요청후_식별자_반환("상행역" + i) + "");
+            params.put("downStationId", 지하철역_생성_요청후_식별자_반환("하행역" + i) + "");
+            params.put("distance", "10");
+            지하철_노선_생성_요청(params);
+        }
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청();
+
+        // then
+        assertThat(response.jsonPath().getList("name")).hasSize(5);
+        assertThat(실행된_쿼리_수(response)).isLessThanOrEqualTo(3);
+    }
+
+    /**
+     * Given 3개의 지하철 노선을 생성하고
+     * When 크기 2로 노선 목록을 페이지 조회하면
+     * Then 2개의 노선과 다음 커서를 응답받는다
+     * When 다음 커서로 다음 페이지를 조회하면
+     * Then 남은 1개의 노선을 응답받고 다음 커서는 없다
+     */
+    @DisplayName("지하철 노선 목록 페이지 조회")
+    @Test
+    void getLinesPage() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+        지하철_노선_생성_요청("3호선", "orange");
+        지하철_노선_생성_요청("신분당선", "red");
+
+        // when
+        ExtractableResponse<Response> firstPage = 지하철_노선_목록_페이지_조회_요청(0L, 2);
+
+        // then
+        assertThat(firstPage.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(firstPage.jsonPath().getList("items.name", String.class)).containsExactly("2호선", "3호선");
+        Long nextCursor = firstPage.jsonPath().getLong("nextCursor");
+
+        // when
+        ExtractableResponse<Response> lastPage = 지하철_노선_목록_페이지_조회_요청(nextCursor, 2);
+
+        // then
+        assertThat(lastPage.jsonPath().getList("items.name", String.class)).containsExactly("신분당선");
+        assertThat(lastPage.jsonPath().getString("nextCursor")).isNull();
+    }
+
+    /**
+     * Given 지하철 노선 목록을 조회하고
+     * When 받은 ETag 로 다시 조회하면
+     * Then 304 를 응답받는다
+     * When 노선을 생성한 뒤 같은 ETag 로 다시 조회하면
+     * Then 새 ETag 와 함께 변경된 노선 목록을 응답받는다
+     */
+    @DisplayName("지하철 노선 목록 조건부 조회")
+    @Test
+    void getLinesIfNoneMatch() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+        String eTag = 지하철_노선_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = 지하철_노선_목록_조회_요청(eTag);
+
+        // then
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        지하철_노선_생성_요청("3호선", "orange");
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청(eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(response.jsonPath().getList("name")).contains("2호선", "3호선");
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 조회하면
@@ -0,0 +1,84 @@
+package nextstep.subway.acceptance;
+
+import nextstep.subway.acceptance.support.AcceptanceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_생성_요청후_식별자_반환;
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선에_지하철_구간_제거_요청;
+import static nextstep.subway.acceptance.support.MetricsSteps.지표_값_조회;
+import static nextstep.subway.acceptance.support.StationSteps.지하철역_생성_요청후_식별자_반환;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("운영 지표 기능")
+class MetricsAcceptanceTest extends AcceptanceTest {
+    private Long 신분당선;
+
+    private Long 강남역;
+    private Long 양재역;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        강남역 = 지하철역_생성_요청후_식별자_반환("강남역");
+        양재역 = 지하철역_생성_요청후_식별자_반환("양재역");
+
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "신분당선");
+        params.put("color", "bg-red-600");
+        params.put("upStationId", 강남역 + "");
+        params.put("downStationId", 양재역 + "");
+        params.put("distance", "10");
+        신분당선 = 지하철_노선_생성_요청후_식별자_반환(params);
+    }
+
+    /**
+     * Given 지하철역과 노선을 생성하고
+     * When 역 생성 호출 지표를 조회하면
+     * Then 서비스 호출 시간이 기록되어 있다
+     */
+    @Test
+    void 서비스_호출시간_지표_조회() {
+        // when
+        double count = 지표_값_조회("subway.service.calls", "COUNT",
+                "service:StationService", "method:saveStation", "outcome:SUCCESS");
+
+        // then
+        assertThat(count).isGreaterThanOrEqualTo(2);
+    }
+
+    /**
+     * Given 구간이 하나뿐인 노선에서
+     * When 구간 제거에 실패하면
+     * Then 실패 지표가 ResponseCode 별로 증가한다
+     */
+    @Test
+    void 실패_지표를_응답코드별로_조회() {
+        // given
+        double before = 지표_값_조회("subway.service.failures", "COUNT", "type:SectionCode", "code:4001");
+
+        // when
+        지하철_노선에_지하철_구간_제거_요청(신분당선, 양재역);
+
+        // then
+        assertThat(지표_값_조회("subway.service.failures", "COUNT", "type:SectionCode", "code:4001"))
+                .isEqualTo(before + 1);
+    }
+
+    /**
+     * Given 지하철역과 노선을 생성하고
+     * When 노선도 규모 지표를 조회하면
+     * Then 역/노선/구간 수를 알 수 있다
+     */
+    @Test
+    void 노선도_규모_지표_조회() {
+        assertThat(지표_값_조회("subway.stations", "VALUE")).isEqualTo(2);
+        assertThat(지표_값_조회("subway.lines", "VALUE")).isEqualTo(1);
+        assertThat(지표_값_조회("subway.sections", "VALUE")).isEqualTo(1);
+    }
+}
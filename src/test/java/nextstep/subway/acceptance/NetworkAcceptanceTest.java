@@ -0,0 +1,120 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.acceptance.support.AcceptanceTest;
+import nextstep.subway.exception.code.NetworkCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.support.NetworkSteps.구간;
+import static nextstep.subway.acceptance.support.NetworkSteps.노선;
+import static nextstep.subway.acceptance.support.NetworkSteps.지하철_노선도_가져오기_요청;
+import static nextstep.subway.acceptance.support.NetworkSteps.지하철_노선도_내보내기_요청;
+import static nextstep.subway.acceptance.support.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선도 가져오기")
+class NetworkAcceptanceTest extends AcceptanceTest {
+
+    /**
+     * When 역과 노선, 순서대로 이어진 구간을 한 번에 가져오면
+     * Then 노선 목록 조회 시 가져온 노선의 역을 순서대로 조회할 수 있다
+     */
+    @Test
+    void 노선도_가져오기() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(
+            List.of("교대역", "강남역", "역삼역", "양재역"),
+            List.of(
+                노선("2호선", "green", List.of(구간("교대역", "강남역", 10), 구간("강남역", "역삼역", 5))),
+                노선("신분당선", "red", List.of(구간("강남역", "양재역", 8)))
+            ));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("stations")).isEqualTo(4);
+        assertThat(response.jsonPath().getInt("sections")).isEqualTo(3);
+        ExtractableResponse<Response> lines = 지하철_노선_목록_조회_요청();
+        assertThat(lines.jsonPath().getList("name", String.class)).containsExactly("2호선", "신분당선");
+        assertThat(lines.jsonPath().getList("[0].stations.name", String.class)).containsExactly("교대역", "강남역", "역삼역");
+    }
+
+    /**
+     * When 구간이 이어지지 않는 노선이 포함된 노선도를 가져오면
+     * Then 가져오기에 실패하고 아무것도 저장되지 않는다
+     */
+    @Test
+    void 구간이_이어지지_않는_노선도_가져오기() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(
+            List.of("교대역", "강남역", "역삼역", "양재역"),
+            List.of(노선("2호선", "green", List.of(구간("교대역", "강남역", 10), 구간("역삼역", "양재역", 5)))));
+
+        // then
+        assertThat(response.jsonPath().getInt("code")).isEqualTo(NetworkCode.NETWORK_SECTION_NOT_CONNECTED.getCode());
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("name")).isEmpty();
+    }
+
+    /**
+     * Given 지하철역을 생성하고
+     * When 같은 이름의 역이 포함된 노선도를 가져오면
+     * Then 가져오기에 실패하고 노선은 저장되지 않는다
+     */
+    @Test
+    void 이미_등록된_역이_포함된_노선도_가져오기() {
+        // given
+        지하철역_생성_요청("강남역");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(
+            List.of("교대역", "강남역"),
+            List.of(노선("2호선", "green", List.of(구간("교대역", "강남역", 10)))));
+
+        // then
+        assertThat(response.jsonPath().getInt("code")).isEqualTo(NetworkCode.NETWORK_STATION_ALREADY_EXISTS.getCode());
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("name")).isEmpty();
+    }
+
+    /**
+     * Given 노선도를 가져오고 구간이 없는 노선을 추가한 뒤
+     * When 노선도를 내보내면
+     * Then 노선마다 한 줄씩 역 순서와 앞 역으로부터의 거리를 조회할 수 있다
+     */
+    @Test
+    void 노선도_내보내기() {
+        // given
+        지하철_노선도_가져오기_요청(
+            List.of("교대역", "강남역", "역삼역", "양재역"),
+            List.of(
+                노선("2호선", "green", List.of(구간("교대역", "강남역", 10), 구간("강남역", "역삼역", 5))),
+                노선("신분당선", "red", List.of(구간("강남역", "양재역", 8)))
+            ));
+        지하철_노선_생성_요청("3호선", "orange");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_내보내기_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith("application/x-ndjson");
+        List<JsonPath> lines = Arrays.stream(response.asString().split("\n"))
+            .map(JsonPath::from)
+            .collect(Collectors.toList());
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).getString("name")).isEqualTo("2호선");
+        assertThat(lines.get(0).getList("stations.name", String.class)).containsExactly("교대역", "강남역", "역삼역");
+        assertThat(lines.get(0).getList("stations.distance", Integer.class)).containsExactly(0, 10, 5);
+        assertThat(lines.get(1).getList("stations.name", String.class)).containsExactly("강남역", "양재역");
+        assertThat(lines.get(2).getString("name")).isEqualTo("3호선");
+        assertThat(lines.get(2).getList("stations")).isEmpty();
+    }
+}
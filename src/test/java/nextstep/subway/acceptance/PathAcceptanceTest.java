@@ -0,0 +1,194 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.acceptance.support.AcceptanceTest;
+import nextstep.subway.exception.code.CommonCode;
+import nextstep.subway.exception.code.PathCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_생성_요청후_식별자_반환;
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선에_지하철_구간_제거_요청;
+import static nextstep.subway.acceptance.support.PathSteps.지하철_거리_행렬_조회_요청;
+import static nextstep.subway.acceptance.support.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.support.PathSteps.지하철_대체_경로_조회_요청;
+import static nextstep.subway.acceptance.support.StationSteps.지하철역_생성_요청후_식별자_반환;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 검색")
+class PathAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 삼호선;
+
+    /**
+     * 교대역    --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역  --- *3호선* ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철역_생성_요청후_식별자_반환("교대역");
+        강남역 = 지하철역_생성_요청후_식별자_반환("강남역");
+        양재역 = 지하철역_생성_요청후_식별자_반환("양재역");
+        남부터미널역 = 지하철역_생성_요청후_식별자_반환("남부터미널역");
+
+        지하철_노선_생성_요청후_식별자_반환(createLineCreateParams("2호선", 교대역, 강남역, 10));
+        지하철_노선_생성_요청후_식별자_반환(createLineCreateParams("신분당선", 강남역, 양재역, 10));
+        삼호선 = 지하철_노선_생성_요청후_식별자_반환(createLineCreateParams("3호선", 교대역, 남부터미널역, 2));
+        지하철_노선에_지하철_구간_생성_요청(삼호선, createSectionCreateParams(남부터미널역, 양재역, 3));
+    }
+
+    /**
+     * When 출발역과 도착역으로 경로를 조회하면
+     * Then 최단 거리 경로의 역 목록과 거리를 응답받는다
+     */
+    @Test
+    void 최단_경로_조회() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    /**
+     * Given 최단 경로를 한 번 조회하고
+     * When 경로상의 구간을 제거한 뒤 다시 조회하면
+     * Then 변경된 구간 기준의 경로를 응답받는다
+     */
+    @Test
+    void 구간_변경후_최단_경로_조회() {
+        // given
+        지하철_경로_조회_요청(교대역, 양재역);
+
+        // when
+        지하철_노선에_지하철_구간_제거_요청(삼호선, 남부터미널역);
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    /**
+     * When 출발역과 도착역을 같게 조회하면
+     * Then 경로 조회에 실패한다
+     */
+    @Test
+    void 출발역과_도착역이_같은_경우() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 교대역);
+
+        // then
+        assertThat(response.jsonPath().getInt("code")).isEqualTo(PathCode.PATH_SAME_STATION.getCode());
+    }
+
+    /**
+     * Given 다른 노선과 연결되지 않은 노선을 생성하고
+     * When 연결되지 않은 역으로 경로를 조회하면
+     * Then 경로 조회에 실패한다
+     */
+    @Test
+    void 출발역과_도착역이_연결되지_않은_경우() {
+        // given
+        Long 수원역 = 지하철역_생성_요청후_식별자_반환("수원역");
+        Long 고색역 = 지하철역_생성_요청후_식별자_반환("고색역");
+        지하철_노선_생성_요청후_식별자_반환(createLineCreateParams("수인선", 수원역, 고색역, 4));
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 수원역);
+
+        // then
+        assertThat(response.jsonPath().getInt("code")).isEqualTo(PathCode.PATH_NOT_FOUND.getCode());
+    }
+
+    /**
+     * When 대체 경로를 여러 개 조회하면
+     * Then 역이 반복되지 않는 경로를 거리 오름차순으로 응답받는다
+     */
+    @Test
+    void 대체_경로_조회() {
+        // when
+        ExtractableResponse<Response> response = 지하철_대체_경로_조회_요청(교대역, 양재역, 3);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("paths.distance", Integer.class)).containsExactly(5, 20);
+        assertThat(response.jsonPath().getList("paths[0].stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getList("paths[1].stations.id", Long.class)).containsExactly(교대역, 강남역, 양재역);
+        assertThat(response.jsonPath().getBoolean("complete")).isTrue();
+        assertThat(response.jsonPath().getInt("exploredCandidates")).isPositive();
+    }
+
+    /**
+     * Given 다른 노선과 연결되지 않은 역을 생성하고
+     * When 여러 출발역과 도착역으로 거리 행렬을 조회하면
+     * Then 출발역 순서대로 각 도착역까지의 최단 거리를 응답받고, 도달할 수 없는 역은 null 로 응답받는다
+     */
+    @Test
+    void 거리_행렬_조회() {
+        // given
+        Long 수원역 = 지하철역_생성_요청후_식별자_반환("수원역");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_거리_행렬_조회_요청(
+                Arrays.asList(교대역, 강남역), Arrays.asList(양재역, 교대역, 수원역));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("sourceIds", Long.class)).containsExactly(교대역, 강남역);
+        assertThat(response.jsonPath().getList("targetIds", Long.class)).containsExactly(양재역, 교대역, 수원역);
+        List<List<Integer>> distances = response.jsonPath().getList("distances");
+        assertThat(distances).containsExactly(Arrays.asList(5, 0, null), Arrays.asList(10, 10, null));
+    }
+
+    /**
+     * When 출발역 없이 거리 행렬을 조회하면
+     * Then 거리 행렬 조회에 실패한다
+     */
+    @Test
+    void 출발역_없이_거리_행렬_조회() {
+        // when
+        ExtractableResponse<Response> response = 지하철_거리_행렬_조회_요청(Collections.emptyList(), Arrays.asList(양재역));
+
+        // then
+        assertThat(response.jsonPath().getInt("code")).isEqualTo(CommonCode.PARAM_INVALID.getCode());
+    }
+
+    private Map<String, String> createLineCreateParams(String name, Long upStationId, Long downStationId, int distance) {
+        Map<String, String> lineCreateParams = new HashMap<>();
+        lineCreateParams.put("name", name);
+        lineCreateParams.put("color", "bg-red-600");
+        lineCreateParams.put("upStationId", upStationId + "");
+        lineCreateParams.put("downStationId", downStationId + "");
+        lineCreateParams.put("distance", distance + "");
+        return lineCreateParams;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+}
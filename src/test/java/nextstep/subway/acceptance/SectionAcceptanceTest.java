@@ -3,6 +3,7 @@ package nextstep.subway.acceptance;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.acceptance.support.AcceptanceTest;
+import nextstep.subway.exception.code.CommonCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,11 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_생성_요청후_식별자_반환;
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선_조회_요청;
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.support.LineSteps.지하철_노선에_지하철_구간_일괄_생성_요청;
 import static nextstep.subway.acceptance.support.LineSteps.지하철_노선에_지하철_구간_제거_요청;
 import static nextstep.subway.acceptance.support.StationSteps.지하철역_생성_요청후_식별자_반환;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,6 +86,49 @@ class SectionAcceptanceTest extends AcceptanceTest {
         }
     }
 
+    @Nested
+    class 구간일괄등록 {
+        /**
+         * When 여러 구간을 한 번에 추가 요청 하면
+         * Then 노선에 요청 순서대로 구간이 추가된다
+         */
+        @Test
+        void 여러구간_한번에_추가요청() {
+            // given
+            Long 판교역 = 지하철역_생성_요청후_식별자_반환("판교역");
+            Long 신사역 = 지하철역_생성_요청후_식별자_반환("신사역");
+
+            // when
+            ExtractableResponse<Response> response = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선, List.of(
+                createSectionCreateParams(양재역, 판교역, 6),
+                createSectionCreateParams(판교역, 정자역, 4),
+                createSectionCreateParams(신사역, 강남역, 5)));
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            노선_조회후_지하철역_포함_확인(신사역, 강남역, 양재역, 판교역, 정자역);
+        }
+
+        /**
+         * When 추가할 수 없는 구간이 포함된 여러 구간을 한 번에 추가 요청 하면
+         * Then 어떤 구간도 추가되지 않는다
+         */
+        @Test
+        void 추가할수없는_구간이_포함된_여러구간_추가요청() {
+            // given
+            Long 판교역 = 지하철역_생성_요청후_식별자_반환("판교역");
+
+            // when
+            ExtractableResponse<Response> response = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선, List.of(
+                createSectionCreateParams(양재역, 판교역, 6),
+                createSectionCreateParams(강남역, 정자역, 10)));
+
+            // then
+            assertThat(response.jsonPath().getInt("code")).isEqualTo(CommonCode.PARAM_INVALID.getCode());
+            노선_조회후_지하철역_포함_확인(강남역, 양재역);
+        }
+    }
+
     @Nested
     class RemoveSection {
         /**
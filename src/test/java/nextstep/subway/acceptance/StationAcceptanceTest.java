@@ -5,12 +5,14 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.acceptance.support.AcceptanceTest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.exception.code.CommonCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
 import java.util.List;
 
+import static nextstep.subway.acceptance.support.StationSteps.지하철역_목록_페이지_조회_요청;
 import static nextstep.subway.acceptance.support.StationSteps.지하철역_생성_요청;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -63,6 +65,51 @@ public class StationAcceptanceTest extends AcceptanceTest {
         assertThat(stations).hasSize(2);
     }
 
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 크기 2로 첫 페이지를 조회하면
+     * Then 2개의 지하철역과 다음 커서를 응답 받는다
+     * When 다음 커서로 다음 페이지를 조회하면
+     * Then 남은 1개의 지하철역을 응답 받고 다음 커서는 없다
+     */
+    @DisplayName("지하철역을 페이지로 조회한다.")
+    @Test
+    void getStationsPage() {
+        // given
+        지하철역_생성_요청("강남역");
+        지하철역_생성_요청("역삼역");
+        지하철역_생성_요청("선릉역");
+
+        // when
+        ExtractableResponse<Response> firstPage = 지하철역_목록_페이지_조회_요청(0L, 2);
+
+        // then
+        assertThat(firstPage.jsonPath().getList("items.name", String.class)).containsExactly("강남역", "역삼역");
+        Long nextCursor = firstPage.jsonPath().getLong("nextCursor");
+        assertThat(nextCursor).isNotNull();
+
+        // when
+        ExtractableResponse<Response> lastPage = 지하철역_목록_페이지_조회_요청(nextCursor, 2);
+
+        // then
+        assertThat(lastPage.jsonPath().getList("items.name", String.class)).containsExactly("선릉역");
+        assertThat(lastPage.jsonPath().getString("nextCursor")).isNull();
+    }
+
+    /**
+     * When 최대 크기를 넘는 페이지를 조회하면
+     * Then 파라미터 오류를 응답 받는다
+     */
+    @DisplayName("최대 크기를 넘는 지하철역 페이지는 조회할 수 없다.")
+    @Test
+    void getStationsPageOverMaxSize() {
+        // when
+        ExtractableResponse<Response> response = 지하철역_목록_페이지_조회_요청(0L, 101);
+
+        // then
+        assertThat(response.jsonPath().getInt("code")).isEqualTo(CommonCode.PARAM_INVALID.getCode());
+    }
+
     /**
      * Given 지하철역을 생성하고
      * When 그 지하철역을 삭제하면
@@ -0,0 +1,28 @@
+package nextstep.subway.acceptance.support;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.HttpStatus;
+
+public class MetricsSteps {
+    public static ExtractableResponse<Response> 지표_조회_요청(String name, String... tags) {
+        return RestAssured.given().log().all()
+                .queryParam("tag", (Object[]) tags)
+                .when()
+                .get("/actuator/metrics/{name}", name)
+                .then().log().all()
+                .extract();
+    }
+
+    /**
+     * 아직 한 번도 기록되지 않은 지표는 404 로 응답하므로 0 으로 본다.
+     */
+    public static double 지표_값_조회(String name, String statistic, String... tags) {
+        ExtractableResponse<Response> response = 지표_조회_요청(name, tags);
+        if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+            return 0;
+        }
+        return response.jsonPath().getDouble("measurements.find { it.statistic == '" + statistic + "' }.value");
+    }
+}
@@ -0,0 +1,33 @@
+package nextstep.subway.acceptance.support;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+
+public class NetworkSteps {
+    public static ExtractableResponse<Response> 지하철_노선도_가져오기_요청(List<String> stations, List<Map<String, Object>> lines) {
+        return RestAssured.given().log().all()
+                .body(Map.of("stations", stations, "lines", lines))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/network/import")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선도_내보내기_요청() {
+        return RestAssured.given().log().all()
+                .when().get("/network/export")
+                .then().log().all().extract();
+    }
+
+    public static Map<String, Object> 노선(String name, String color, List<Map<String, Object>> sections) {
+        return Map.of("name", name, "color", color, "sections", sections);
+    }
+
+    public static Map<String, Object> 구간(String upStation, String downStation, int distance) {
+        return Map.of("upStation", upStation, "downStation", downStation, "distance", distance);
+    }
+}
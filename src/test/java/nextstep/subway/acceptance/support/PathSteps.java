@@ -0,0 +1,31 @@
+package nextstep.subway.acceptance.support;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+
+public class PathSteps {
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .when().get("/paths?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_대체_경로_조회_요청(Long source, Long target, int k) {
+        return RestAssured.given().log().all()
+                .when().get("/paths/alternatives?source={source}&target={target}&k={k}", source, target, k)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_거리_행렬_조회_요청(List<Long> sourceIds, List<Long> targetIds) {
+        return RestAssured.given().log().all()
+                .body(Map.of("sourceIds", sourceIds, "targetIds", targetIds))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/paths/matrix")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,18 @@
+package nextstep.subway.acceptance.support;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.querycount.QueryCountFilter;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수를 응답 헤더에서 읽는다. AcceptanceTest 는 헤더를 켜 둔다.
+ */
+public class QueryCountSteps {
+    public static int 실행된_쿼리_수(ExtractableResponse<Response> response) {
+        return Integer.parseInt(response.header(QueryCountFilter.QUERY_COUNT_HEADER));
+    }
+
+    public static long 읽은_행_수(ExtractableResponse<Response> response) {
+        return Long.parseLong(response.header(QueryCountFilter.ROWS_READ_HEADER));
+    }
+}
@@ -21,6 +21,16 @@ public class StationSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철역_목록_페이지_조회_요청(Long after, int size) {
+        return RestAssured.given().log().all()
+                .queryParam("after", after)
+                .queryParam("size", size)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
     public static Long 지하철역_생성_요청후_식별자_반환(String name){
         return 지하철역_생성_요청(name).jsonPath().getLong("id");
     }
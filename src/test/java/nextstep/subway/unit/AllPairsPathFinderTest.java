@@ -0,0 +1,78 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.AllPairsPathFinder;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.StationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AllPairsPathFinderTest {
+    List<Section> sections;
+    StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        Station 교대역 = new Station(1L, "교대역");
+        Station 강남역 = new Station(2L, "강남역");
+        Station 양재역 = new Station(3L, "양재역");
+        Station 남부터미널역 = new Station(4L, "남부터미널역");
+        Station 수원역 = new Station(5L, "수원역");
+        Station 고색역 = new Station(6L, "고색역");
+        Line 이호선 = new Line(1L, "2호선", "green");
+        Line 신분당선 = new Line(2L, "신분당선", "red");
+        Line 삼호선 = new Line(3L, "3호선", "orange");
+        Line 수인선 = new Line(4L, "수인선", "yellow");
+        sections = List.of(
+            new Section(이호선, 교대역, 강남역, 10),
+            new Section(신분당선, 강남역, 양재역, 10),
+            new Section(삼호선, 교대역, 남부터미널역, 2),
+            new Section(삼호선, 남부터미널역, 양재역, 3),
+            new Section(수인선, 수원역, 고색역, 4)
+        );
+        graph = StationGraph.of(sections);
+    }
+
+    @Test
+    void 표를_조회한_결과가_다익스트라와_같다() {
+        // given
+        PathFinder allPairs = AllPairsPathFinder.of(graph);
+        PathFinder dijkstra = PathFinder.of(sections);
+
+        // then
+        for (long source = 1; source <= 6; source++) {
+            for (long target = 1; target <= 6; target++) {
+                Optional<Path> expected = dijkstra.find(source, target);
+                Optional<Path> actual = allPairs.find(source, target);
+                assertThat(actual.map(Path::getDistance)).isEqualTo(expected.map(Path::getDistance));
+                assertThat(actual.map(Path::getStationIds)).isEqualTo(expected.map(Path::getStationIds));
+            }
+        }
+    }
+
+    @Test
+    void 최단_경로_복원() {
+        // when
+        Optional<Path> path = AllPairsPathFinder.of(graph).find(2L, 4L);
+
+        // then
+        assertAll(
+            () -> assertThat(path.get().getStationIds()).containsExactly(2L, 1L, 4L),
+            () -> assertThat(path.get().getDistance()).isEqualTo(12)
+                 );
+    }
+
+    @Test
+    void 연결되지_않은_역() {
+        assertThat(AllPairsPathFinder.of(graph).find(1L, 5L)).isEmpty();
+    }
+}
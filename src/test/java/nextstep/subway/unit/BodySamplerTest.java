@@ -0,0 +1,59 @@
+package nextstep.subway.unit;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import nextstep.subway.exception.GlobalExceptionHandler;
+import nextstep.subway.ui.accesslog.AsyncAccessAppender;
+import nextstep.subway.ui.accesslog.BodySampler;
+import nextstep.subway.ui.accesslog.BodySamplingFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BodySamplerTest {
+    BodySampler sampler = new BodySampler();
+
+    @Test
+    void 정상_응답은_표본으로_뽑히지_않으면_남기지_않는다() {
+        assertThat(sampler.sample(accessEvent(200, IAccessEvent.NA))).isFalse();
+    }
+
+    @Test
+    void 오류_상태코드_응답은_남긴다() {
+        assertThat(sampler.sample(accessEvent(500, IAccessEvent.NA))).isTrue();
+    }
+
+    @Test
+    void 응답코드가_남은_비즈니스_오류는_200이어도_남긴다() {
+        assertThat(sampler.sample(accessEvent(200, "4001"))).isTrue();
+    }
+
+    @Test
+    void 오류를_남기지_않도록_설정하면_표본_비율만_따른다() {
+        sampler.setErrors(false);
+        sampler.setSampleRate(1);
+
+        assertThat(sampler.sample(accessEvent(200, IAccessEvent.NA))).isTrue();
+    }
+
+    @Test
+    void 본문_필터는_표본으로_표시된_로그만_통과시킨다() {
+        BodySamplingFilter filter = new BodySamplingFilter();
+        IAccessEvent sampled = mock(IAccessEvent.class);
+        when(sampled.getAttribute(AsyncAccessAppender.BODY_SAMPLED_ATTRIBUTE)).thenReturn(AsyncAccessAppender.BODY_SAMPLED);
+        IAccessEvent notSampled = mock(IAccessEvent.class);
+        when(notSampled.getAttribute(AsyncAccessAppender.BODY_SAMPLED_ATTRIBUTE)).thenReturn(IAccessEvent.NA);
+
+        assertThat(filter.decide(sampled)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(notSampled)).isEqualTo(FilterReply.DENY);
+    }
+
+    private IAccessEvent accessEvent(int status, String responseCode) {
+        IAccessEvent event = mock(IAccessEvent.class);
+        when(event.getStatusCode()).thenReturn(status);
+        when(event.getAttribute(GlobalExceptionHandler.RESPONSE_CODE_ATTRIBUTE)).thenReturn(responseCode);
+        return event;
+    }
+}
@@ -0,0 +1,78 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.ContractionHierarchyPathFinder;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.StationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractionHierarchyPathFinderTest {
+    private static final int WIDTH = 6;
+
+    List<Section> sections;
+    StationGraph graph;
+
+    /**
+     * 6 x 6 격자 형태의 노선망. 가로 노선과 세로 노선이 모든 역에서 교차한다.
+     */
+    @BeforeEach
+    void setUp() {
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= WIDTH * WIDTH; id++) {
+            stations.add(new Station(id, "역" + id));
+        }
+        Line line = new Line(1L, "격자선", "gray");
+        sections = new ArrayList<>();
+        for (int row = 0; row < WIDTH; row++) {
+            for (int column = 0; column < WIDTH; column++) {
+                int index = row * WIDTH + column;
+                if (column + 1 < WIDTH) {
+                    sections.add(new Section(line, stations.get(index), stations.get(index + 1), 1 + (index % 4)));
+                }
+                if (row + 1 < WIDTH) {
+                    sections.add(new Section(line, stations.get(index), stations.get(index + WIDTH), 2 + (index % 3)));
+                }
+            }
+        }
+        graph = StationGraph.of(sections);
+    }
+
+    @Test
+    void 모든_역_쌍의_거리가_다익스트라와_같다() {
+        // given
+        PathFinder contractionHierarchy = ContractionHierarchyPathFinder.of(graph);
+        PathFinder dijkstra = PathFinder.of(sections);
+
+        // then
+        for (long source = 1; source <= WIDTH * WIDTH; source++) {
+            for (long target = 1; target <= WIDTH * WIDTH; target++) {
+                Optional<Path> actual = contractionHierarchy.find(source, target);
+                assertThat(actual.map(Path::getDistance)).isEqualTo(dijkstra.find(source, target).map(Path::getDistance));
+            }
+        }
+    }
+
+    @Test
+    void 지름길을_풀어낸_경로는_실제_구간으로_이어진다() {
+        // when
+        Path path = ContractionHierarchyPathFinder.of(graph).find(1L, (long) WIDTH * WIDTH).get();
+
+        // then
+        List<Long> stationIds = path.getStationIds();
+        assertThat(stationIds).startsWith(1L).endsWith((long) WIDTH * WIDTH);
+        for (int i = 0; i + 1 < stationIds.size(); i++) {
+            long difference = Math.abs(stationIds.get(i) - stationIds.get(i + 1));
+            assertThat(difference).isIn(1L, (long) WIDTH);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.DistanceMatrixCalculator;
+import nextstep.subway.domain.path.StationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static nextstep.subway.domain.path.DistanceMatrixCalculator.UNREACHABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistanceMatrixCalculatorTest {
+    DistanceMatrixCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        Station 교대역 = new Station(1L, "교대역");
+        Station 강남역 = new Station(2L, "강남역");
+        Station 양재역 = new Station(3L, "양재역");
+        Station 남부터미널역 = new Station(4L, "남부터미널역");
+        Station 수원역 = new Station(5L, "수원역");
+        Station 고색역 = new Station(6L, "고색역");
+        Line 이호선 = new Line(1L, "2호선", "green");
+        Line 신분당선 = new Line(2L, "신분당선", "red");
+        Line 삼호선 = new Line(3L, "3호선", "orange");
+        Line 수인선 = new Line(4L, "수인선", "yellow");
+        calculator = new DistanceMatrixCalculator(StationGraph.of(List.of(
+            new Section(이호선, 교대역, 강남역, 10),
+            new Section(신분당선, 강남역, 양재역, 10),
+            new Section(삼호선, 교대역, 남부터미널역, 2),
+            new Section(삼호선, 남부터미널역, 양재역, 3),
+            new Section(수인선, 수원역, 고색역, 4)
+        )));
+    }
+
+    @Test
+    void 출발역에서_각_도착역까지의_최단_거리를_도착역_순서대로_구한다() {
+        int[] targets = calculator.indexesOf(List.of(3L, 1L, 3L, 2L));
+
+        assertThat(calculator.distancesFrom(1L, targets)).containsExactly(5, 0, 5, 10);
+    }
+
+    @Test
+    void 도달할_수_없거나_없는_역은_UNREACHABLE_이다() {
+        int[] targets = calculator.indexesOf(List.of(6L, 99L, 2L));
+
+        assertThat(calculator.distancesFrom(1L, targets)).containsExactly(UNREACHABLE, UNREACHABLE, 10);
+        assertThat(calculator.distancesFrom(99L, targets)).containsExactly(UNREACHABLE, UNREACHABLE, UNREACHABLE);
+    }
+}
@@ -0,0 +1,97 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.AlternativePaths;
+import nextstep.subway.domain.path.KShortestPathFinder;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.SearchBudget;
+import nextstep.subway.domain.path.StationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class KShortestPathFinderTest {
+    KShortestPathFinder finder;
+
+    /**
+     * 1 --2-- 2 --2-- 3
+     * |       |       |
+     * 1       1       5
+     * |       |       |
+     * 4 --3-- 5 --1-- 6
+     */
+    @BeforeEach
+    void setUp() {
+        Station 역1 = new Station(1L, "역1");
+        Station 역2 = new Station(2L, "역2");
+        Station 역3 = new Station(3L, "역3");
+        Station 역4 = new Station(4L, "역4");
+        Station 역5 = new Station(5L, "역5");
+        Station 역6 = new Station(6L, "역6");
+        Line 노선 = new Line(1L, "노선", "green");
+        finder = new KShortestPathFinder(StationGraph.of(List.of(
+            new Section(노선, 역1, 역2, 2),
+            new Section(노선, 역2, 역3, 2),
+            new Section(노선, 역1, 역4, 1),
+            new Section(노선, 역2, 역5, 1),
+            new Section(노선, 역3, 역6, 5),
+            new Section(노선, 역4, 역5, 3),
+            new Section(노선, 역5, 역6, 1)
+        )));
+    }
+
+    @Test
+    void 역이_반복되지_않는_경로를_거리_오름차순으로_찾는다() {
+        AlternativePaths result = finder.find(1L, 6L, 3, SearchBudget.unlimited());
+
+        assertAll(
+            () -> assertThat(distances(result)).containsExactly(4, 5, 9),
+            () -> assertThat(result.getPaths().get(0).getStationIds()).containsExactly(1L, 2L, 5L, 6L),
+            () -> assertThat(result.getPaths().get(1).getStationIds()).containsExactly(1L, 4L, 5L, 6L),
+            () -> assertThat(result.getPaths().get(2).getStationIds()).containsExactly(1L, 2L, 3L, 6L),
+            () -> assertThat(result.isComplete()).isTrue(),
+            () -> assertThat(result.getExploredCandidates()).isGreaterThanOrEqualTo(3)
+                 );
+    }
+
+    @Test
+    void 가능한_경로가_k_개보다_적으면_모든_경로를_찾는다() {
+        AlternativePaths result = finder.find(1L, 6L, 10, SearchBudget.unlimited());
+
+        assertAll(
+            () -> assertThat(distances(result)).containsExactly(4, 5, 9, 12),
+            () -> assertThat(result.isComplete()).isTrue()
+                 );
+    }
+
+    @Test
+    void 탐색_예산을_다_쓰면_그때까지_찾은_경로만_응답한다() {
+        AlternativePaths result = finder.find(1L, 6L, 3, SearchBudget.of(1, Duration.ofSeconds(1)));
+
+        assertAll(
+            () -> assertThat(distances(result)).containsExactly(4),
+            () -> assertThat(result.isComplete()).isFalse()
+                 );
+    }
+
+    @Test
+    void 그래프에_없는_역이면_빈_결과를_응답한다() {
+        AlternativePaths result = finder.find(1L, 99L, 3, SearchBudget.unlimited());
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    private List<Integer> distances(AlternativePaths result) {
+        return result.getPaths().stream()
+                     .map(Path::getDistance)
+                     .collect(Collectors.toList());
+    }
+}
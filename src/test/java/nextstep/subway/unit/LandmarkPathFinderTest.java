@@ -0,0 +1,79 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.DijkstraPathFinder;
+import nextstep.subway.domain.path.LandmarkPathFinder;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.StationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LandmarkPathFinderTest {
+    private static final int LENGTH = 30;
+
+    StationGraph graph;
+
+    /**
+     * 역 30개가 일렬로 이어진 노선에 1번 역에서 갈라지는 지선을 하나 둔다.
+     */
+    @BeforeEach
+    void setUp() {
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= LENGTH + 5; id++) {
+            stations.add(new Station(id, "역" + id));
+        }
+        Line line = new Line(1L, "본선", "blue");
+        Line branch = new Line(2L, "지선", "sky");
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i + 1 < LENGTH; i++) {
+            sections.add(new Section(line, stations.get(i), stations.get(i + 1), 2));
+        }
+        sections.add(new Section(branch, stations.get(0), stations.get(LENGTH), 3));
+        for (int i = LENGTH; i + 1 < LENGTH + 5; i++) {
+            sections.add(new Section(branch, stations.get(i), stations.get(i + 1), 3));
+        }
+        graph = StationGraph.of(sections);
+    }
+
+    @Test
+    void 다익스트라와_같은_최단_경로를_찾는다() {
+        // given
+        PathFinder landmark = LandmarkPathFinder.of(graph, 2);
+        PathFinder dijkstra = new DijkstraPathFinder(graph);
+
+        // then
+        for (long source = 1; source <= LENGTH + 5; source++) {
+            for (long target = 1; target <= LENGTH + 5; target++) {
+                Optional<Path> expected = dijkstra.find(source, target);
+                Optional<Path> actual = landmark.find(source, target);
+                assertThat(actual.map(Path::getDistance)).isEqualTo(expected.map(Path::getDistance));
+                assertThat(actual.map(Path::getStationIds)).isEqualTo(expected.map(Path::getStationIds));
+            }
+        }
+    }
+
+    @Test
+    void 다익스트라보다_적은_노드를_확정한다() {
+        // given
+        PathFinder landmark = LandmarkPathFinder.of(graph, 2);
+        PathFinder dijkstra = new DijkstraPathFinder(graph);
+
+        // when
+        landmark.find(15L, 25L);
+        dijkstra.find(15L, 25L);
+
+        // then
+        assertThat(landmark.getStatistics().getQueries()).isEqualTo(1);
+        assertThat(landmark.getStatistics().getSettledNodes())
+            .isLessThan(dijkstra.getStatistics().getSettledNodes());
+    }
+}
@@ -0,0 +1,115 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.LineEditExecutor;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.LineCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LineEditExecutorTest {
+    LineEditExecutor lineEditExecutor = new LineEditExecutor(64, 3, Duration.ZERO);
+    AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void 버전이_충돌하면_다시_시도한다() {
+        String result = lineEditExecutor.execute(1L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+
+        assertAll(
+            () -> assertThat(result).isEqualTo("done"),
+            () -> assertThat(attempts.get()).isEqualTo(3)
+                 );
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_실패한다() {
+        CustomException exception = assertThrows(CustomException.class, () -> lineEditExecutor.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+
+        assertAll(
+            () -> assertThat(exception.getResponseCode()).isEqualTo(LineCode.LINE_CONCURRENT_MODIFICATION),
+            () -> assertThat(attempts.get()).isEqualTo(3)
+                 );
+    }
+
+    @Test
+    void 다시_시도하기_전에_잠금을_놓아_기다리던_편집이_진행된다() {
+        LineEditExecutor retryingExecutor = new LineEditExecutor(64, 100, Duration.ofMillis(10));
+        CountDownLatch waitingEditDone = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        String result = retryingExecutor.execute(1L, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                executor.submit(() -> retryingExecutor.execute(1L, waitingEditDone::countDown));
+            }
+            if (waitingEditDone.getCount() > 0) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+        executor.shutdown();
+
+        assertAll(
+            () -> assertThat(result).isEqualTo("done"),
+            () -> assertThat(attempts.get()).isGreaterThan(1)
+                 );
+    }
+
+    @Test
+    void 같은_노선의_편집은_하나씩_진행된다() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(CompletableFuture.runAsync(() -> lineEditExecutor.execute(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+            }), executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_노선의_편집은_동시에_진행된다() throws Exception {
+        CountDownLatch otherLineStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        boolean concurrent = lineEditExecutor.execute(1L, () -> {
+            executor.submit(() -> lineEditExecutor.execute(2L, otherLineStarted::countDown));
+            try {
+                return otherLineStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        executor.shutdown();
+
+        assertThat(concurrent).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package nextstep.subway.unit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.LineResponseCache;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.domain.Line;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LineResponseCacheTest {
+    ObjectMapper objectMapper = new ObjectMapper();
+    LineResponseCache lineResponseCache;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        lineResponseCache = new LineResponseCache(objectMapper);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    void 노선_JSON_은_한번만_직렬화한다() throws Exception {
+        lineResponseCache.getLine(1L, () -> load(1L));
+        byte[] json = lineResponseCache.getLine(1L, () -> load(1L));
+
+        assertAll(
+            () -> assertThat(objectMapper.readTree(json).get("name").asText()).isEqualTo("노선1"),
+            () -> assertThat(loadCount.get()).isEqualTo(1)
+                 );
+    }
+
+    @Test
+    void 노선이_바뀌면_그_노선만_다시_직렬화한다() {
+        lineResponseCache.getLines(() -> List.of(1L, 2L), this::loadAll);
+
+        lineResponseCache.onNetworkChanged(NetworkChangedEvent.ofLine(2L));
+        lineResponseCache.getLines(() -> List.of(1L, 2L), this::loadAll);
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 역만_바뀌면_노선을_다시_직렬화하지_않는다() {
+        lineResponseCache.getLines(() -> List.of(1L, 2L), this::loadAll);
+
+        lineResponseCache.onNetworkChanged(NetworkChangedEvent.ofStation(7L));
+        lineResponseCache.getLines(() -> List.of(1L, 2L), this::loadAll);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 노선_목록은_노선별_JSON_을_순서대로_이어_붙인다() throws Exception {
+        lineResponseCache.getLine(2L, () -> load(2L));
+
+        byte[] json = lineResponseCache.getLines(() -> List.of(1L, 2L, 3L), this::loadAll);
+
+        JsonNode lines = objectMapper.readTree(json);
+        assertAll(
+            () -> assertThat(lines.size()).isEqualTo(3),
+            () -> assertThat(lines.get(0).get("id").asLong()).isEqualTo(1L),
+            () -> assertThat(lines.get(1).get("id").asLong()).isEqualTo(2L),
+            () -> assertThat(lines.get(2).get("id").asLong()).isEqualTo(3L),
+            () -> assertThat(loadCount.get()).isEqualTo(3)
+                 );
+    }
+
+    @Test
+    void 목록을_만드는_도중에_무효화된_노선도_응답에서_빠지지_않는다() throws Exception {
+        lineResponseCache.getLine(1L, () -> load(1L));
+
+        byte[] json = lineResponseCache.getLines(() -> List.of(1L, 2L), ids -> {
+            lineResponseCache.onNetworkChanged(NetworkChangedEvent.ofLine(1L));
+            return loadAll(ids);
+        });
+
+        JsonNode lines = objectMapper.readTree(json);
+        assertAll(
+            () -> assertThat(lines.size()).isEqualTo(2),
+            () -> assertThat(lines.get(0).get("id").asLong()).isEqualTo(1L),
+            () -> assertThat(lines.get(1).get("id").asLong()).isEqualTo(2L)
+                 );
+    }
+
+    @Test
+    void 식별자를_읽은_뒤_지워진_노선이_있으면_식별자_목록부터_다시_읽는다() throws Exception {
+        AtomicInteger idLoadCount = new AtomicInteger();
+
+        byte[] json = lineResponseCache.getLines(
+            () -> idLoadCount.incrementAndGet() == 1 ? List.of(1L, 2L) : List.of(1L),
+            ids -> loadAll(ids).stream().filter(line -> line.getId() != 2L).collect(Collectors.toList()));
+
+        JsonNode lines = objectMapper.readTree(json);
+        assertAll(
+            () -> assertThat(idLoadCount.get()).isEqualTo(2),
+            () -> assertThat(lines.size()).isEqualTo(1),
+            () -> assertThat(lines.get(0).get("id").asLong()).isEqualTo(1L)
+                 );
+    }
+
+    private List<LineResponse> loadAll(List<Long> ids) {
+        return ids.stream()
+                  .map(this::load)
+                  .collect(Collectors.toList());
+    }
+
+    private LineResponse load(Long id) {
+        loadCount.incrementAndGet();
+        return LineResponse.of(new Line(id, "노선" + id, "green"));
+    }
+}
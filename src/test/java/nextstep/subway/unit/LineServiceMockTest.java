@@ -1,26 +1,38 @@
 package nextstep.subway.unit;
 
+import nextstep.subway.applicaion.LineReadModel;
 import nextstep.subway.applicaion.LineService;
 import nextstep.subway.applicaion.dto.LineRequest;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.event.LineUpdatedEvent;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class LineServiceMockTest {
     @Mock
     private LineRepository lineRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private LineReadModel lineReadModel;
     @InjectMocks
     private LineService lineService;
 
@@ -40,4 +52,25 @@ public class LineServiceMockTest {
             () -> assertThat(line.getColor()).isEqualTo(expectColor)
                  );
     }
+
+    @Test
+    void 노선을_수정하면_노선_수정_이벤트를_발행한다() {
+        // given
+        final Line line = new Line(3L, "분당선", "yellow");
+        given(lineRepository.findById(3L)).willReturn(Optional.of(line));
+
+        // when
+        lineService.updateLine(line.getId(), LineRequest.builder().name("수인분당선").build());
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        LineUpdatedEvent event = (LineUpdatedEvent) captor.getAllValues().get(0);
+        assertAll(
+            () -> assertThat(event.getLineId()).isEqualTo(3L),
+            () -> assertThat(event.getName()).isEqualTo("수인분당선"),
+            () -> assertThat(event.getColor()).isEqualTo("yellow"),
+            () -> assertThat(((NetworkChangedEvent) captor.getAllValues().get(1)).getLineId()).isEqualTo(3L)
+                 );
+    }
 }
@@ -2,14 +2,26 @@ package nextstep.subway.unit;
 
 import nextstep.subway.applicaion.LineService;
 import nextstep.subway.applicaion.dto.LineRequest;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.PageResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -19,7 +31,11 @@ public class LineServiceTest {
     @Autowired
     private LineRepository lineRepository;
     @Autowired
+    private StationRepository stationRepository;
+    @Autowired
     private LineService lineService;
+    @Autowired
+    private EntityManager entityManager;
 
     @ParameterizedTest
     @CsvSource(value = {"에버라인:red:에버라인:red", "에버라인::에버라인:yellow", ":red:분당선:red"}, delimiter = ':')
@@ -37,4 +53,89 @@ public class LineServiceTest {
             () -> assertThat(line.getColor()).isEqualTo(expectColor)
                  );
     }
+
+    @Test
+    void 노선_목록_조회는_노선_수와_관계없이_식별자와_읽기_모델_쿼리_두번으로_조회한다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            lineService.saveLine(LineRequest.builder()
+                                            .name("노선" + i).color("red")
+                                            .upStationId(stationRepository.save(new Station("상행역" + i)).getId())
+                                            .downStationId(stationRepository.save(new Station("하행역" + i)).getId())
+                                            .distance(10)
+                                            .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        PageResponse<LineResponse> lines = lineService.showLines(null, 10);
+
+        // then
+        assertAll(
+            () -> assertThat(lines.getItems()).hasSize(5),
+            () -> assertThat(lines.getItems().get(0).getStations()).hasSize(2),
+            () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(2),
+            () -> assertThat(statistics.getEntityLoadCount()).isZero()
+                 );
+    }
+
+    @Test
+    void 구간이_있는_노선_전체를_노선_수와_관계없이_쿼리_한번으로_조회한다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Line line = new Line("노선" + i, "red");
+            line.addSection(stationRepository.save(new Station("상행역" + i)), stationRepository.save(new Station("하행역" + i)), 10);
+            lineRepository.save(line);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        List<LineResponse> lines = lineRepository.findAllWithSections().stream()
+                                                 .map(LineResponse::of)
+                                                 .collect(Collectors.toList());
+
+        // then
+        assertAll(
+            () -> assertThat(lines).hasSize(5),
+            () -> assertThat(lines.get(0).getStations()).hasSize(2),
+            () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1)
+                 );
+    }
+
+    @Test
+    void 노선_조회는_읽기_모델에서_쿼리_한번으로_조회한다() {
+        // given
+        Station 기흥역 = stationRepository.save(new Station("기흥역"));
+        Station 신갈역 = stationRepository.save(new Station("신갈역"));
+        LineResponse saved = lineService.saveLine(LineRequest.builder()
+                                                              .name("분당선").color("yellow")
+                                                              .upStationId(기흥역.getId()).downStationId(신갈역.getId()).distance(10)
+                                                              .build());
+        lineService.updateLine(saved.getId(), LineRequest.builder().name("수인분당선").build());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        LineResponse line = lineService.findById(saved.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(line.getName()).isEqualTo("수인분당선"),
+            () -> assertThat(line.getColor()).isEqualTo("yellow"),
+            () -> assertThat(line.getStations()).extracting(StationResponse::getName).containsExactly("기흥역", "신갈역"),
+            () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1),
+            () -> assertThat(statistics.getEntityLoadCount()).isZero()
+                 );
+    }
 }
@@ -0,0 +1,113 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PathFinderTest {
+    Station 교대역;
+    Station 강남역;
+    Station 양재역;
+    Station 남부터미널역;
+    List<Section> sections;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station(1L, "교대역");
+        강남역 = new Station(2L, "강남역");
+        양재역 = new Station(3L, "양재역");
+        남부터미널역 = new Station(4L, "남부터미널역");
+
+        Line 이호선 = new Line(1L, "2호선", "green");
+        Line 신분당선 = new Line(2L, "신분당선", "red");
+        Line 삼호선 = new Line(3L, "3호선", "orange");
+        sections = List.of(
+            new Section(이호선, 교대역, 강남역, 10),
+            new Section(신분당선, 강남역, 양재역, 10),
+            new Section(삼호선, 교대역, 남부터미널역, 2),
+            new Section(삼호선, 남부터미널역, 양재역, 3)
+        );
+    }
+
+    @Test
+    void 최단_경로_조회() {
+        // when
+        Optional<Path> path = PathFinder.of(sections).find(교대역.getId(), 양재역.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(path).isPresent(),
+            () -> assertThat(path.get().getStationIds()).containsExactly(1L, 4L, 3L),
+            () -> assertThat(path.get().getDistance()).isEqualTo(5)
+                 );
+    }
+
+    @Test
+    void 여러_스레드가_동시에_조회해도_같은_경로를_찾는다() throws Exception {
+        // given
+        PathFinder pathFinder = PathFinder.of(sections);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<Optional<Path>>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            results.add(executor.submit(() -> pathFinder.find(교대역.getId(), 양재역.getId())));
+        }
+
+        // then
+        for (Future<Optional<Path>> result : results) {
+            Path path = result.get(10, TimeUnit.SECONDS).orElseThrow();
+            assertThat(path.getStationIds()).containsExactly(1L, 4L, 3L);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void 구간의_방향과_반대로도_조회() {
+        // when
+        Optional<Path> path = PathFinder.of(sections).find(양재역.getId(), 교대역.getId());
+
+        // then
+        assertThat(path.get().getStationIds()).containsExactly(3L, 4L, 1L);
+    }
+
+    @Test
+    void 연결되지_않은_역() {
+        // given
+        Station 수원역 = new Station(5L, "수원역");
+        Station 고색역 = new Station(6L, "고색역");
+        Line 수인선 = new Line(4L, "수인선", "yellow");
+        List<Section> disconnected = new ArrayList<>(sections);
+        disconnected.add(new Section(수인선, 수원역, 고색역, 4));
+
+        // when
+        Optional<Path> path = PathFinder.of(disconnected).find(교대역.getId(), 수원역.getId());
+
+        // then
+        assertThat(path).isEmpty();
+    }
+
+    @Test
+    void 그래프에_없는_역() {
+        // when
+        Optional<Path> path = PathFinder.of(sections).find(교대역.getId(), 99L);
+
+        // then
+        assertThat(path).isEmpty();
+    }
+}
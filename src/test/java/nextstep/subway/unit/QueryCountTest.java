@@ -0,0 +1,79 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.querycount.QueryCountDataSourcePostProcessor;
+import nextstep.subway.querycount.RequestQueryCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class QueryCountTest {
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = (DataSource) new QueryCountDataSourcePostProcessor()
+                .postProcessAfterInitialization(new DriverManagerDataSource("jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1"), "dataSource");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists station (id bigint primary key, name varchar(255))");
+        jdbcTemplate.execute("delete from station");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryCount.clear();
+    }
+
+    @Test
+    void 요청_중에_실행한_SQL_문과_행_수를_센다() {
+        // given
+        RequestQueryCount count = RequestQueryCount.start();
+
+        // when
+        jdbcTemplate.batchUpdate("insert into station (id, name) values (?, ?)",
+                                 Arrays.asList(new Object[]{1L, "강남역"}, new Object[]{2L, "양재역"}, new Object[]{3L, "정자역"}));
+        jdbcTemplate.queryForList("select name from station", String.class);
+
+        // then
+        assertAll(
+            () -> assertThat(count.getStatements()).isEqualTo(2),
+            () -> assertThat(count.getRowsUpdated()).isEqualTo(3),
+            () -> assertThat(count.getRowsRead()).isEqualTo(3)
+                 );
+    }
+
+    @Test
+    void 같은_SQL_이_반복되면_반복_횟수를_알_수_있다() {
+        // given
+        RequestQueryCount count = RequestQueryCount.start();
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.queryForList("select name from station where id = ?", String.class, id);
+        }
+
+        // then
+        assertThat(count.mostRepeated()).hasValueSatisfying(repeated -> assertThat(repeated.getValue()).isEqualTo(5));
+    }
+
+    @Test
+    void 다른_스레드에서_실행한_SQL_은_세지_않는다() throws InterruptedException {
+        // given
+        RequestQueryCount count = RequestQueryCount.start();
+
+        // when
+        Thread thread = new Thread(() -> jdbcTemplate.queryForList("select name from station", String.class));
+        thread.start();
+        thread.join();
+
+        // then
+        assertThat(count.getStatements()).isZero();
+    }
+}
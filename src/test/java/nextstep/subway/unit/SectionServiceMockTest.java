@@ -1,22 +1,33 @@
 package nextstep.subway.unit;
 
+import nextstep.subway.applicaion.LineReadModel;
 import nextstep.subway.applicaion.SectionService;
 import nextstep.subway.applicaion.StationService;
 import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.event.SectionChangeType;
+import nextstep.subway.domain.event.SectionChangedEvent;
+import nextstep.subway.domain.event.SectionSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import javax.persistence.EntityManager;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class SectionServiceMockTest {
@@ -24,6 +35,12 @@ public class SectionServiceMockTest {
     private LineRepository lineRepository;
     @Mock
     private StationService stationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private LineReadModel lineReadModel;
     @InjectMocks
     private SectionService sectionService;
 
@@ -36,7 +53,7 @@ public class SectionServiceMockTest {
 
         given(stationService.findById(기흥역.getId())).willReturn(기흥역);
         given(stationService.findById(신갈역.getId())).willReturn(신갈역);
-        given(lineRepository.findById(line.getId())).willReturn(Optional.of(line));
+        given(lineRepository.findWithSectionsById(line.getId())).willReturn(Optional.of(line));
 
         // when
         sectionService.addSection(line.getId(), new SectionRequest(기흥역.getId(), 신갈역.getId(), 10));
@@ -59,7 +76,7 @@ public class SectionServiceMockTest {
         line.addSection(기흥역, 신갈역, 10);
         line.addSection(신갈역, 정자역, 9);
 
-        given(lineRepository.findById(line.getId())).willReturn(Optional.of(line));
+        given(lineRepository.findWithSectionsById(line.getId())).willReturn(Optional.of(line));
         given(stationService.findById(정자역.getId())).willReturn(정자역);
 
         // when
@@ -71,4 +88,68 @@ public class SectionServiceMockTest {
             () -> assertThat(line.getSections().getStationNames()).containsExactlyInAnyOrder("기흥역", "신갈역")
                  );
     }
+
+    @Test
+    void 구간_사이에_추가하면_구간_분할_이벤트를_발행한다() {
+        // given
+        final Station 기흥역 = new Station(1L, "기흥역");
+        final Station 신갈역 = new Station(2L, "신갈역");
+        final Station 정자역 = new Station(3L, "정자역");
+        final Line line = new Line(4L, "분당선", "yellow");
+        line.addSection(기흥역, 정자역, 10);
+        line.pullSectionChangedEvents();
+
+        given(stationService.findById(기흥역.getId())).willReturn(기흥역);
+        given(stationService.findById(신갈역.getId())).willReturn(신갈역);
+        given(lineRepository.findWithSectionsById(line.getId())).willReturn(Optional.of(line));
+
+        // when
+        sectionService.addSection(line.getId(), new SectionRequest(기흥역.getId(), 신갈역.getId(), 4));
+
+        // then
+        List<Object> events = 발행된_이벤트(2);
+        SectionChangedEvent event = (SectionChangedEvent) events.get(0);
+        assertAll(
+            () -> assertThat(event.getLineId()).isEqualTo(4L),
+            () -> assertThat(event.getType()).isEqualTo(SectionChangeType.SECTION_SPLIT),
+            () -> assertThat(event.getBefore()).containsExactly(new SectionSnapshot(1L, 3L, 10)),
+            () -> assertThat(event.getAfter()).containsExactly(new SectionSnapshot(1L, 2L, 4), new SectionSnapshot(2L, 3L, 6)),
+            () -> assertThat(((NetworkChangedEvent) events.get(1)).getLineId()).isEqualTo(4L)
+                 );
+    }
+
+    @Test
+    void 중간역을_제거하면_구간_병합_이벤트를_발행한다() {
+        // given
+        final Station 기흥역 = new Station(1L, "기흥역");
+        final Station 신갈역 = new Station(2L, "신갈역");
+        final Station 정자역 = new Station(3L, "정자역");
+        final Line line = new Line(4L, "분당선", "yellow");
+        line.addSection(기흥역, 신갈역, 10);
+        line.addSection(신갈역, 정자역, 9);
+        line.pullSectionChangedEvents();
+
+        given(lineRepository.findWithSectionsById(line.getId())).willReturn(Optional.of(line));
+        given(stationService.findById(신갈역.getId())).willReturn(신갈역);
+
+        // when
+        sectionService.deleteSection(line.getId(), 신갈역.getId());
+
+        // then
+        List<Object> events = 발행된_이벤트(2);
+        SectionChangedEvent event = (SectionChangedEvent) events.get(0);
+        assertAll(
+            () -> assertThat(event.getLineId()).isEqualTo(4L),
+            () -> assertThat(event.getType()).isEqualTo(SectionChangeType.SECTIONS_MERGED),
+            () -> assertThat(event.getBefore()).containsExactly(new SectionSnapshot(1L, 2L, 10), new SectionSnapshot(2L, 3L, 9)),
+            () -> assertThat(event.getAfter()).containsExactly(new SectionSnapshot(1L, 3L, 19)),
+            () -> assertThat(((NetworkChangedEvent) events.get(1)).getLineId()).isEqualTo(4L)
+                 );
+    }
+
+    private List<Object> 발행된_이벤트(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(count)).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
 }
@@ -1,18 +1,25 @@
 package nextstep.subway.unit;
 
 import nextstep.subway.applicaion.SectionService;
+import nextstep.subway.applicaion.StationService;
 import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import nextstep.subway.exception.CustomException;
+import nextstep.subway.exception.code.StationCode;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @Transactional
@@ -23,6 +30,10 @@ public class SectionServiceTest {
     private LineRepository lineRepository;
     @Autowired
     private SectionService sectionService;
+    @Autowired
+    private StationService stationService;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     void addSection() {
@@ -41,6 +52,40 @@ public class SectionServiceTest {
                  );
     }
 
+    @Test
+    void 없는_역이_포함된_여러_구간은_역_없음_오류로_거절한다() {
+        // given
+        final Station 기흥역 = createStation("기흥역");
+        final Station 신갈역 = createStation("신갈역");
+        final Line line = createLine("분당선", "yellow");
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> sectionService.addSections(line.getId(), List.of(
+            new SectionRequest(기흥역.getId(), 신갈역.getId(), 10),
+            new SectionRequest(신갈역.getId(), 신갈역.getId() + 100, 10))));
+
+        // then
+        assertAll(
+            () -> assertThat(exception.getResponseCode()).isEqualTo(StationCode.STATION_NOT_FOUND),
+            () -> assertThat(line.getSections().isEmpty()).isTrue()
+                 );
+    }
+
+    @Test
+    void 캐시에서_받은_역은_영속성_컨텍스트에_속하지_않는다() {
+        // given
+        final Station 기흥역 = createStation("기흥역");
+
+        // when
+        Station station = stationService.findById(기흥역.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(station).isEqualTo(기흥역),
+            () -> assertThat(entityManager.contains(station)).isFalse()
+                 );
+    }
+
     @Test
     void deleteSection() {
         // given
@@ -4,6 +4,9 @@ import nextstep.subway.domain.Line;
 import nextstep.subway.domain.Section;
 import nextstep.subway.domain.Sections;
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.event.SectionChangeType;
+import nextstep.subway.domain.event.SectionChangedEvent;
+import nextstep.subway.domain.event.SectionSnapshot;
 import nextstep.subway.exception.CustomException;
 import nextstep.subway.exception.code.CommonCode;
 import nextstep.subway.exception.code.ResponseCode;
@@ -109,6 +112,20 @@ class SectionsTest {
             에러코드_확인(exception, CommonCode.PARAM_INVALID);
         }
 
+        @Test
+        void 이름이_같아도_id가_다른_역은_노선에_없는_역으로_본다() {
+            Station 다른_기흥역 = new Station(31L, "기흥역");
+            Station 구성역 = new Station(14L, "구성역");
+
+            // when
+            CustomException exception = assertThrows(CustomException.class, () -> {
+                sections.add(new Section(line, 다른_기흥역, 구성역, 5));
+            });
+
+            // then
+            에러코드_확인(exception, CommonCode.PARAM_INVALID);
+        }
+
         @Test
         void 상행역과_하행역_둘중_하나도_포함되어있지_않으면_추가못함() {
             Station 수원역 = new Station(14L, "수원역");
@@ -223,6 +240,155 @@ class SectionsTest {
                  );
     }
 
+    @DisplayName("상행 종점 방향으로 구간을 이어붙인 긴 노선의 정렬")
+    @Test
+    void getSectionsSortedOfLongLine() {
+        // given
+        Line 긴노선 = new Line(22L, "긴노선", "blue");
+        Station downStation = new Station(1000L, "역1000");
+        for (long id = 999; id >= 700; id--) {
+            Station upStation = new Station(id, "역" + id);
+            긴노선.addSection(upStation, downStation, 1);
+            downStation = upStation;
+        }
+
+        // when
+        List<Station> stations = 긴노선.getSections().getStationsSorted();
+
+        // then
+        assertAll(
+            () -> assertThat(stations).hasSize(301),
+            () -> assertThat(stations.get(0).getId()).isEqualTo(700L),
+            () -> assertThat(stations.get(300).getId()).isEqualTo(1000L),
+            () -> assertThat(긴노선.getSections().getUpEndStation().getId()).isEqualTo(700L)
+                 );
+    }
+
+    @DisplayName("구간 추가/제거 후 구간 순서 값은 상행 종점부터의 위치와 같다")
+    @Test
+    void ordinal() {
+        // given
+        Station 구성역 = new Station(14L, "구성역");
+        Station 수원역 = new Station(15L, "수원역");
+        line.addSection(구성역, 정자역, 3);
+        line.addSection(수원역, 기흥역, 5);
+
+        // when
+        sections.removeSection(신갈역);
+
+        // then
+        assertThat(sections.getSectionsSorted().stream()
+                           .map(Section::getOrdinal)
+                           .collect(Collectors.toList())).containsExactly(0, 1, 2);
+        지하철역_순서_고려하여_포함_여부확인("수원역", "기흥역", "구성역", "정자역");
+    }
+
+    @DisplayName("여러 구간을 순서대로 한 번에 추가")
+    @Test
+    void addAll() {
+        // given
+        Station 구성역 = new Station(14L, "구성역");
+        Station 수원역 = new Station(15L, "수원역");
+
+        // when
+        sections.addAll(List.of(new Section(line, 정자역, 구성역, 3), new Section(line, 수원역, 기흥역, 5)));
+
+        // then
+        지하철역_순서_고려하여_포함_여부확인("수원역", "기흥역", "신갈역", "정자역", "구성역");
+        assertThat(sections.getSectionsSorted().stream()
+                           .map(Section::getOrdinal)
+                           .collect(Collectors.toList())).containsExactly(0, 1, 2, 3);
+    }
+
+    @DisplayName("추가할 수 없는 구간이 있으면 앞서 추가한 구간까지 모두 취소")
+    @Test
+    void addAllFailsAtomically() {
+        // given
+        Station 구성역 = new Station(14L, "구성역");
+        Station 수원역 = new Station(15L, "수원역");
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> sections.addAll(
+            List.of(new Section(line, 정자역, 구성역, 3), new Section(line, 수원역, new Station(16L, "미금역"), 5))));
+
+        // then
+        에러코드_확인(exception, CommonCode.PARAM_INVALID);
+        지하철역_순서_고려하여_포함_여부확인("기흥역", "신갈역", "정자역");
+        assertThat(getDistances()).containsExactly(10, 9);
+    }
+
+    @DisplayName("역 연결은 맞지만 나눌 구간보다 긴 구간이 있으면 앞서 추가한 구간까지 모두 취소")
+    @Test
+    void addAllRollsBackOnInvalidDistance() {
+        // given
+        Station 구성역 = new Station(14L, "구성역");
+        Station 미금역 = new Station(16L, "미금역");
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> sections.addAll(
+            List.of(new Section(line, 정자역, 구성역, 3), new Section(line, 기흥역, 미금역, 10))));
+
+        // then
+        에러코드_확인(exception, CommonCode.PARAM_INVALID);
+        지하철역_순서_고려하여_포함_여부확인("기흥역", "신갈역", "정자역");
+        assertThat(getDistances()).containsExactly(10, 9);
+    }
+
+    @DisplayName("구간 사이에 추가하면 나뉜 구간과 나뉘어 생긴 두 구간을 이벤트로 꺼낸다")
+    @Test
+    void splitEvent() {
+        // given
+        Station 구성역 = new Station(14L, "구성역");
+        line.pullSectionChangedEvents();
+
+        // when
+        sections.add(new Section(line, 신갈역, 구성역, 4));
+        List<SectionChangedEvent> events = line.pullSectionChangedEvents();
+
+        // then
+        assertAll(
+            () -> assertThat(events).hasSize(1),
+            () -> assertThat(events.get(0).getLineId()).isEqualTo(21L),
+            () -> assertThat(events.get(0).getType()).isEqualTo(SectionChangeType.SECTION_SPLIT),
+            () -> assertThat(events.get(0).getBefore()).containsExactly(new SectionSnapshot(12L, 13L, 9)),
+            () -> assertThat(events.get(0).getAfter()).containsExactly(new SectionSnapshot(12L, 14L, 4), new SectionSnapshot(14L, 13L, 5)),
+            () -> assertThat(line.pullSectionChangedEvents()).isEmpty()
+                 );
+    }
+
+    @DisplayName("중간역을 제거하면 합쳐진 두 구간과 합친 구간을 이벤트로 꺼낸다")
+    @Test
+    void mergeEvent() {
+        // given
+        line.pullSectionChangedEvents();
+
+        // when
+        sections.removeSection(신갈역);
+        List<SectionChangedEvent> events = line.pullSectionChangedEvents();
+
+        // then
+        assertAll(
+            () -> assertThat(events).hasSize(1),
+            () -> assertThat(events.get(0).getType()).isEqualTo(SectionChangeType.SECTIONS_MERGED),
+            () -> assertThat(events.get(0).getBefore()).containsExactly(new SectionSnapshot(11L, 12L, 10), new SectionSnapshot(12L, 13L, 9)),
+            () -> assertThat(events.get(0).getAfter()).containsExactly(new SectionSnapshot(11L, 13L, 19))
+                 );
+    }
+
+    @DisplayName("여러 구간 추가가 취소되면 그 사이 기록된 이벤트도 꺼내지 않는다")
+    @Test
+    void addAllFailsWithoutEvents() {
+        // given
+        line.pullSectionChangedEvents();
+
+        // when
+        assertThrows(CustomException.class, () -> sections.addAll(
+            List.of(new Section(line, 정자역, new Station(14L, "구성역"), 3), new Section(line, 기흥역, 정자역, 5))));
+
+        // then
+        assertThat(line.pullSectionChangedEvents()).isEmpty();
+    }
+
     @DisplayName("구간 제거")
     @Test
     void removeSection() {
@@ -0,0 +1,87 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.StationCache;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.event.StationDeletedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StationCacheTest {
+    AtomicInteger loadCount = new AtomicInteger();
+    Function<Long, Station> loader = id -> {
+        loadCount.incrementAndGet();
+        return new Station(id, "역" + id);
+    };
+
+    @Test
+    void 한번_읽은_역은_다시_읽지_않는다() {
+        StationCache stationCache = new StationCache(10, Duration.ofMinutes(10));
+
+        stationCache.get(1L, loader);
+        Station station = stationCache.get(1L, loader);
+
+        assertAll(
+            () -> assertThat(station.getName()).isEqualTo("역1"),
+            () -> assertThat(loadCount.get()).isEqualTo(1),
+            () -> assertThat(stationCache.getHits()).isEqualTo(1),
+            () -> assertThat(stationCache.getMisses()).isEqualTo(1)
+                 );
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_조회되지_않은_역부터_밀어낸다() {
+        StationCache stationCache = new StationCache(2, Duration.ofMinutes(10));
+
+        stationCache.get(1L, loader);
+        stationCache.get(2L, loader);
+        stationCache.get(1L, loader);
+        stationCache.get(3L, loader);
+        stationCache.get(1L, loader);
+        stationCache.get(2L, loader);
+
+        assertAll(
+            () -> assertThat(stationCache.size()).isEqualTo(2),
+            () -> assertThat(loadCount.get()).isEqualTo(4)
+                 );
+    }
+
+    @Test
+    void 만료된_역은_다시_읽는다() {
+        StationCache stationCache = new StationCache(10, Duration.ZERO);
+
+        stationCache.get(1L, loader);
+        stationCache.get(1L, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 무효화한_역은_다시_읽는다() {
+        StationCache stationCache = new StationCache(10, Duration.ofMinutes(10));
+
+        stationCache.get(1L, loader);
+        stationCache.evict(1L);
+        stationCache.get(1L, loader);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 역이_삭제되면_그_역만_다시_읽는다() {
+        StationCache stationCache = new StationCache(10, Duration.ofMinutes(10));
+        stationCache.get(1L, loader);
+        stationCache.get(2L, loader);
+
+        stationCache.onStationDeleted(new StationDeletedEvent(1L));
+        stationCache.get(1L, loader);
+        stationCache.get(2L, loader);
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+}
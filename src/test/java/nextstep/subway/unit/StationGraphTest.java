@@ -0,0 +1,72 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.DijkstraSearch;
+import nextstep.subway.domain.path.StationGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StationGraphTest {
+    Station 교대역;
+    Station 강남역;
+    Station 양재역;
+    StationGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station(30L, "교대역");
+        강남역 = new Station(10L, "강남역");
+        양재역 = new Station(20L, "양재역");
+        Line 이호선 = new Line(1L, "2호선", "green");
+        Line 신분당선 = new Line(2L, "신분당선", "red");
+        graph = StationGraph.of(List.of(
+            new Section(이호선, 교대역, 강남역, 10),
+            new Section(신분당선, 강남역, 양재역, 3),
+            new Section(신분당선, 강남역, 양재역, 5)
+        ));
+    }
+
+    @Test
+    void 역_식별자_오름차순으로_인덱스를_부여한다() {
+        assertAll(
+            () -> assertThat(graph.size()).isEqualTo(3),
+            () -> assertThat(graph.indexOf(강남역.getId())).isEqualTo(0),
+            () -> assertThat(graph.indexOf(양재역.getId())).isEqualTo(1),
+            () -> assertThat(graph.indexOf(교대역.getId())).isEqualTo(2),
+            () -> assertThat(graph.indexOf(99L)).isEqualTo(-1)
+                 );
+    }
+
+    @Test
+    void 구간은_양방향_간선으로_저장된다() {
+        int 강남 = graph.indexOf(강남역.getId());
+
+        assertAll(
+            () -> assertThat(graph.edgeCount()).isEqualTo(6),
+            () -> assertThat(graph.edgeEnd(강남) - graph.edgeStart(강남)).isEqualTo(3)
+                 );
+    }
+
+    @Test
+    void 작업공간을_재사용해도_탐색결과가_같다() {
+        DijkstraSearch search = new DijkstraSearch(graph);
+        int 교대 = graph.indexOf(교대역.getId());
+        int 양재 = graph.indexOf(양재역.getId());
+
+        int first = search.search(교대, 양재);
+        int second = search.search(양재, 교대);
+
+        assertAll(
+            () -> assertThat(first).isEqualTo(13),
+            () -> assertThat(second).isEqualTo(13),
+            () -> assertThat(search.distanceTo(graph.indexOf(강남역.getId()))).isEqualTo(3)
+                 );
+    }
+}
@@ -0,0 +1,77 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.StationCache;
+import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.StationRequest;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.event.StationCreatedEvent;
+import nextstep.subway.domain.event.StationDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class StationServiceMockTest {
+    @Mock
+    private StationRepository stationRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private StationCache stationCache;
+    @InjectMocks
+    private StationService stationService;
+
+    @Test
+    void 역을_생성하면_역_생성_이벤트를_발행한다() {
+        // given
+        given(stationRepository.save(any(Station.class))).willReturn(new Station(1L, "강남역"));
+
+        // when
+        stationService.saveStation(new StationRequest("강남역"));
+
+        // then
+        List<Object> events = 발행된_이벤트(2);
+        StationCreatedEvent event = (StationCreatedEvent) events.get(0);
+        assertAll(
+            () -> assertThat(event.getStationId()).isEqualTo(1L),
+            () -> assertThat(event.getName()).isEqualTo("강남역"),
+            () -> assertThat(((NetworkChangedEvent) events.get(1)).getStationId()).isEqualTo(1L),
+            () -> assertThat(((NetworkChangedEvent) events.get(1)).isStationOnly()).isTrue()
+                 );
+    }
+
+    @Test
+    void 역을_삭제하면_역_삭제_이벤트를_발행한다() {
+        // when
+        stationService.deleteStationById(1L);
+
+        // then
+        List<Object> events = 발행된_이벤트(2);
+        assertAll(
+            () -> assertThat(((StationDeletedEvent) events.get(0)).getStationId()).isEqualTo(1L),
+            () -> assertThat(((NetworkChangedEvent) events.get(1)).getStationId()).isEqualTo(1L),
+            () -> assertThat(((NetworkChangedEvent) events.get(1)).isStationOnly()).isTrue()
+                 );
+    }
+
+    private List<Object> 발행된_이벤트(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(count)).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+}
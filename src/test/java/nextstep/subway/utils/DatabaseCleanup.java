@@ -1,7 +1,9 @@
 package nextstep.subway.utils;
 
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class DatabaseCleanup implements InitializingBean {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private List<String> tableNames;
 
     @Override
@@ -46,5 +51,6 @@ public class DatabaseCleanup implements InitializingBean {
             jdbcTemplate.execute("TRUNCATE TABLE " + tableName);
         }
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        eventPublisher.publishEvent(NetworkChangedEvent.ofNetwork());
     }
 }
\ No newline at end of file